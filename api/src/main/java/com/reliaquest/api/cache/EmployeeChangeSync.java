@@ -0,0 +1,204 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.EmployeeEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Keeps the {@link EmployeeSnapshotCache} replica current by polling the mock server's change feed
+ * instead of re-downloading the employee list. Creates and deletes are applied through
+ * {@link EmployeeSnapshotCache#applyCreated}/{@link EmployeeSnapshotCache#applyDeleted}, so the
+ * indexes listening on the cache update incrementally as well, and published to
+ * {@link EmployeeEventPublisher}.
+ * <p>
+ * The sync remembers the dataset epoch and the last version it applied. It starts from the version the
+ * cached snapshot was loaded at (the list's ETag, {@code W/"<epoch>-<version>"}), so that snapshot is
+ * brought up to date rather than dropped; without a versioned snapshot (none yet, or one warmed from
+ * disk) it starts from the current version and leaves the snapshot to its regular refresh. Whenever a
+ * snapshot older than the changes applied so far (or of another epoch) is installed, the sync goes back
+ * to its version.
+ * Replaying a change the snapshot already contains is harmless because the cache applies changes
+ * idempotently. When the feed answers 410 Gone (the changes fell out of the server's bounded log, or
+ * the server restarted with a new dataset) it resyncs: it takes the current version and drops the
+ * snapshot, so the next read reloads a list at least that recent.
+ */
+@Component
+public class EmployeeChangeSync {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeSync.class);
+
+    private final EmployeeApiClient client;
+    private final EmployeeSnapshotCache cache;
+    private final EmployeeEventPublisher events;
+    private final boolean enabled;
+    private final int batchSize;
+
+    // guarded by this
+    private String epoch;
+    private Long since;
+
+    private final Counter created;
+    private final Counter deleted;
+    private final Counter resyncs;
+    private final Counter failures;
+
+    public EmployeeChangeSync(
+            EmployeeApiClient client,
+            EmployeeSnapshotCache cache,
+            EmployeeEventPublisher events,
+            MeterRegistry meterRegistry,
+            @Value("${employee.sync.enabled:false}") boolean enabled,
+            @Value("${employee.sync.batch-size:1000}") int batchSize) {
+        this.client = client;
+        this.cache = cache;
+        this.events = events;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.created = changes(meterRegistry, "created");
+        this.deleted = changes(meterRegistry, "deleted");
+        this.resyncs = meterRegistry.counter("employee.sync.resyncs");
+        this.failures = meterRegistry.counter("employee.sync.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${employee.sync.interval:30s}", initialDelayString = "${employee.sync.interval:30s}")
+    public void poll() {
+        if (!enabled || !cache.isEnabled()) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Employee change sync failed: {}", ex.toString());
+        }
+    }
+
+    /**
+     * Applies every change published since the last call, or resyncs if that is not possible.
+     */
+    synchronized void sync() {
+        EmployeeSnapshot snapshot = cache.current();
+        Version loadedAt = snapshot == null ? null : Version.parse(snapshot.version());
+        if (since == null) {
+            if (loadedAt == null) {
+                start();
+                return;
+            }
+            epoch = loadedAt.epoch();
+            since = loadedAt.version();
+            log.info("Employee change sync starting from the cached snapshot at epoch={} version={}", epoch, since);
+        } else if (loadedAt != null && (!loadedAt.epoch().equals(epoch) || loadedAt.version() < since)) {
+            log.debug("Employee snapshot loaded at epoch={} version={} is behind, replaying from there",
+                    loadedAt.epoch(), loadedAt.version());
+            epoch = loadedAt.epoch();
+            since = loadedAt.version();
+        }
+        while (true) {
+            EmployeeChanges batch;
+            try {
+                batch = client.getChangesReactive(since, epoch, batchSize).block();
+            } catch (WebClientResponseException.Gone ex) {
+                log.info("Employee changes since {} no longer available, resyncing", since);
+                resync();
+                return;
+            }
+            if (batch == null) {
+                return;
+            }
+            for (EmployeeChange change : batch.getChanges()) {
+                apply(change);
+                since = change.getSequence();
+            }
+            if (batch.getChanges().size() < batchSize) {
+                since = Math.max(since, batch.getLatest());
+                return;
+            }
+        }
+    }
+
+    private void apply(EmployeeChange change) {
+        switch (change.getType()) {
+            case CREATED -> {
+                cache.applyCreated(change.getEmployee());
+                events.publishCreated(change.getEmployee());
+                created.increment();
+            }
+            case DELETED -> {
+                cache.applyDeleted(change.getEmployee());
+                events.publishDeleted(change.getEmployee());
+                deleted.increment();
+            }
+        }
+        log.debug("Applied change {} {} id={}", change.getSequence(), change.getType(), change.getEmployee().getId());
+    }
+
+    // nothing to catch up from: the snapshot is loaded or refreshed later, at least at this version
+    private void start() {
+        if (head()) {
+            log.info("Employee change sync starting at epoch={} version={}", epoch, since);
+        }
+    }
+
+    private void resync() {
+        if (head()) {
+            resyncs.increment();
+            cache.invalidate();
+            log.info("Employee change sync at epoch={} version={}, snapshot dropped", epoch, since);
+        }
+    }
+
+    private boolean head() {
+        EmployeeChanges head = client.getChangesReactive(null, null, batchSize).block();
+        if (head == null) {
+            return false;
+        }
+        epoch = head.getEpoch();
+        since = head.getLatest();
+        return true;
+    }
+
+    /**
+     * Epoch and version of the mock server's dataset, as encoded in its employee list ETag.
+     */
+    record Version(String epoch, long version) {
+
+        /**
+         * @return the version in {@code etag}, {@code null} if there is none or it has another format
+         */
+        static Version parse(String etag) {
+            if (etag == null) {
+                return null;
+            }
+            String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+            if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                return null;
+            }
+            value = value.substring(1, value.length() - 1);
+            int separator = value.lastIndexOf('-');
+            if (separator < 1) {
+                return null;
+            }
+            try {
+                return new Version(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static Counter changes(MeterRegistry registry, String type) {
+        return Counter.builder("employee.sync.changes")
+                .tag("type", type)
+                .register(registry);
+    }
+}
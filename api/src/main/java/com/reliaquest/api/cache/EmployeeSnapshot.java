@@ -0,0 +1,143 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable copy of the full employee list as returned by the Mock Employee API at a point in time.
+ * <p>
+ * Employees are indexed by id, so lookups and the idempotency checks of {@link #withCreated} and
+ * {@link #withDeleted} do not scan the list; only a change that actually applies copies it.
+ *
+ * @see EmployeeSnapshotCache
+ */
+public final class EmployeeSnapshot {
+
+    private final List<Employee> employees;
+    private final Instant loadedAt;
+    private final String version;
+    // id -> position in employees; employees without an id are not indexed
+    private final Map<String, Integer> positions;
+
+    /**
+     * @param employees the employees, in the order returned by the upstream
+     * @param loadedAt  the instant the list was fetched from the upstream
+     */
+    public EmployeeSnapshot(List<Employee> employees, Instant loadedAt) {
+        this(employees, loadedAt, null);
+    }
+
+    /**
+     * @param version the upstream's ETag of the list, {@code null} if unknown (e.g. a snapshot saved to disk)
+     */
+    public EmployeeSnapshot(List<Employee> employees, Instant loadedAt, String version) {
+        this(employees == null ? List.of() : List.copyOf(employees), loadedAt, version, null);
+    }
+
+    private EmployeeSnapshot(
+            List<Employee> employees, Instant loadedAt, String version, Map<String, Integer> positions) {
+        this.employees = employees;
+        this.loadedAt = loadedAt;
+        this.version = version;
+        this.positions =
+                positions == null ? Collections.unmodifiableMap(index(employees, 0, new HashMap<>())) : positions;
+    }
+
+    /**
+     * @return the employees, in the order returned by the upstream
+     */
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    /**
+     * @return the instant the list was fetched from the upstream
+     */
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return the upstream's ETag of the list this snapshot was loaded from, {@code null} if unknown. Changes
+     *         applied later do not update it.
+     */
+    public String version() {
+        return version;
+    }
+
+    public boolean contains(String id) {
+        return id != null && positions.containsKey(id);
+    }
+
+    public Optional<Employee> find(String id) {
+        Integer position = id == null ? null : positions.get(id);
+        return position == null ? Optional.empty() : Optional.of(employees.get(position));
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    /**
+     * @return a copy of this snapshot with {@code employee} appended, as the upstream does on create.
+     */
+    public EmployeeSnapshot withCreated(Employee employee) {
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        Map<String, Integer> updatedPositions = new HashMap<>(positions);
+        if (employee.getId() != null) {
+            updatedPositions.put(employee.getId(), employees.size());
+        }
+        return changed(updated, updatedPositions);
+    }
+
+    /**
+     * @return a copy of this snapshot without the employee having {@code id}, this snapshot if there is none.
+     */
+    public EmployeeSnapshot withDeleted(String id) {
+        Integer position = id == null ? null : positions.get(id);
+        if (position == null) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() - 1);
+        updated.addAll(employees.subList(0, position));
+        updated.addAll(employees.subList(position + 1, employees.size()));
+        Map<String, Integer> updatedPositions = new HashMap<>(positions);
+        updatedPositions.remove(id);
+        // only the employees behind the deleted one move
+        index(updated, position, updatedPositions);
+        return changed(updated, updatedPositions);
+    }
+
+    private EmployeeSnapshot changed(List<Employee> updated, Map<String, Integer> updatedPositions) {
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(updated),
+                loadedAt,
+                version,
+                Collections.unmodifiableMap(updatedPositions));
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeSnapshot[size=" + employees.size() + ", loadedAt=" + loadedAt + ", version=" + version + "]";
+    }
+
+    private static Map<String, Integer> index(List<Employee> employees, int from, Map<String, Integer> positions) {
+        for (int i = from; i < employees.size(); i++) {
+            String id = employees.get(i).getId();
+            if (id != null) {
+                positions.put(id, i);
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,461 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process cache of the full employee list so that read endpoints do not download the whole
+ * population from the rate-limited Mock Employee API on every request.
+ * <ul>
+ *   <li>fresh (younger than {@code ttl}) – served straight from memory</li>
+ *   <li>stale (within {@code stale-while-revalidate} past the ttl) – served from memory while a
+ *       refresh runs on the application task executor</li>
+ *   <li>missing or expired – loaded synchronously; concurrent callers share a single upstream fetch</li>
+ * </ul>
+ * Writes made through this API are applied to the snapshot in place ({@link #applyCreated},
+ * {@link #applyDeleted}) so that callers read their own writes. Every snapshot change is published to the
+ * registered {@link EmployeeSnapshotListener}s. Hit/miss counters and the age of the current snapshot are
+ * published to Micrometer.
+ * <p>
+ * When a load fails (upstream down, circuit breaker open, rate limited) the last snapshot this cache held is
+ * served instead, as long as it is younger than {@code max-staleness}; otherwise the failure is passed on.
+ * {@link #read()} reports the age of such data together with it, see {@link Served}.
+ */
+@Component
+public class EmployeeSnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshotCache.class);
+
+    private final EmployeeApiClient client;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final List<EmployeeSnapshotListener> listeners;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+    // last snapshot held, kept through invalidate() as the fallback for failed loads
+    private final AtomicReference<EmployeeSnapshot> lastKnownGood = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<EmployeeSnapshot>> inFlight = new AtomicReference<>();
+    // bumped on every change to the snapshot so that a load started before it cannot install older data
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Counter fallbacks;
+
+    @Autowired
+    public EmployeeSnapshotCache(
+            EmployeeApiClient client,
+            MeterRegistry meterRegistry,
+            List<EmployeeSnapshotListener> listeners,
+            // virtual threads when spring.threads.virtual.enabled=true on Java 21, platform pool otherwise
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor refreshExecutor,
+            @Value("${employee.cache.enabled:true}") boolean enabled,
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Value("${employee.cache.stale-while-revalidate:2m}") Duration staleWhileRevalidate,
+            @Value("${employee.cache.max-staleness:15m}") Duration maxStaleness) {
+        this(client, meterRegistry, listeners, refreshExecutor, enabled, ttl, staleWhileRevalidate, maxStaleness,
+                Clock.systemUTC());
+    }
+
+    EmployeeSnapshotCache(
+            EmployeeApiClient client,
+            MeterRegistry meterRegistry,
+            List<EmployeeSnapshotListener> listeners,
+            Executor refreshExecutor,
+            boolean enabled,
+            Duration ttl,
+            Duration staleWhileRevalidate,
+            Duration maxStaleness,
+            Clock clock) {
+        this.client = client;
+        this.listeners = List.copyOf(listeners);
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshSuccesses = refreshes(meterRegistry, "success");
+        this.refreshFailures = refreshes(meterRegistry, "failure");
+        this.fallbacks = requests(meterRegistry, "fallback");
+        Gauge.builder("employee.cache.age", this, EmployeeSnapshotCache::ageSeconds)
+                .description("Age of the cached employee snapshot")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        log.info("Employee snapshot cache enabled={} ttl={} staleWhileRevalidate={} maxStaleness={}",
+                enabled, ttl, staleWhileRevalidate, maxStaleness);
+    }
+
+    /**
+     * @return the current employee snapshot, loading it from the upstream if needed.
+     */
+    public EmployeeSnapshot get() {
+        return read().value();
+    }
+
+    /**
+     * Like {@link #get()}, but also tells whether the snapshot is the last known good one standing in for a
+     * failed load, and how old it is.
+     */
+    public Served<EmployeeSnapshot> read() {
+        if (!enabled) {
+            misses.increment();
+            try {
+                return Served.fresh(publishUncached(client.getAllEmployees()));
+            } catch (RuntimeException ex) {
+                return fallback(ex).orElseThrow(() -> ex);
+            }
+        }
+
+        EmployeeSnapshot snapshot = cached();
+        if (snapshot != null) {
+            return Served.fresh(snapshot);
+        }
+        misses.increment();
+        try {
+            return Served.fresh(await(loadShared(this::loadBlocking)));
+        } catch (RuntimeException ex) {
+            return fallback(ex).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #read()} for the reactive pipeline. A miss waits on the same
+     * single-flight load as blocking callers, but never parks the calling thread.
+     */
+    public Mono<Served<EmployeeSnapshot>> readReactive() {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                misses.increment();
+                return client.getAllEmployeesReactive()
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(employees -> Served.fresh(publishUncached(employees)))
+                        .onErrorResume(this::fallbackReactive);
+            }
+
+            EmployeeSnapshot snapshot = cached();
+            if (snapshot != null) {
+                return Mono.just(Served.fresh(snapshot));
+            }
+            misses.increment();
+            // suppressCancel: one subscriber going away must not cancel the load others are waiting on
+            return Mono.fromFuture(loadShared(this::loadReactive), true)
+                    .map(Served::fresh)
+                    .onErrorResume(this::fallbackReactive);
+        });
+    }
+
+    /**
+     * Fallback for single-employee lookups the upstream could not answer.
+     *
+     * @return the employee with {@code id} from the last known good snapshot, served with the age of that
+     *         snapshot, if it is younger than {@code max-staleness}.
+     */
+    public Optional<Served<Employee>> lastKnown(String id) {
+        return usableLastKnownGood().flatMap(snapshot -> snapshot.find(id).map(employee -> {
+            fallbacks.increment();
+            return Served.stale(employee, snapshot.age(clock.instant()));
+        }));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the current snapshot if it is fresh or may be served stale, without loading one on a miss.
+     */
+    public Optional<EmployeeSnapshot> peek() {
+        return enabled ? Optional.ofNullable(cached()) : Optional.empty();
+    }
+
+    /**
+     * @return the most recent snapshot this cache held, also after {@link #invalidate()}; empty before the
+     *         first load.
+     */
+    public Optional<EmployeeSnapshot> lastKnownGood() {
+        return Optional.ofNullable(lastKnownGood.get());
+    }
+
+    /**
+     * Starts from a snapshot saved by an earlier run, unless one has been loaded already. It is served
+     * right away as stale, so the first read refreshes it in the background (with a zero
+     * {@code stale-while-revalidate} the first read loads synchronously instead). Failed loads fall back
+     * to it only while its real age is below {@code max-staleness}.
+     */
+    public synchronized void warm(EmployeeSnapshot saved) {
+        if (!enabled || current.get() != null) {
+            return;
+        }
+        EmployeeSnapshot warmed = new EmployeeSnapshot(saved.employees(), clock.instant().minus(ttl));
+        current.set(warmed);
+        lastKnownGood.compareAndSet(null, saved);
+        publish(warmed);
+        log.info("Employee snapshot warmed size={} savedAge={}", saved.employees().size(), saved.age(clock.instant()));
+    }
+
+    /**
+     * Drops the current snapshot; the next {@link #get()} goes to the upstream.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        current.set(null);
+        log.debug("Employee snapshot invalidated");
+    }
+
+    /**
+     * Records a created employee without refetching the whole list. Idempotent: an employee the
+     * snapshot already holds (e.g. created through this API and then seen in the change feed) is ignored.
+     */
+    public synchronized void applyCreated(Employee employee) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            discardLoadInFlight();
+            return;
+        }
+        if (snapshot.contains(employee.getId())) {
+            return;
+        }
+        EmployeeSnapshot updated = snapshot.withCreated(employee);
+        generation.incrementAndGet();
+        current.set(updated);
+        lastKnownGood.set(updated);
+        listeners.forEach(listener -> listener.onCreated(updated, employee));
+        log.debug("Employee snapshot: applied create id={}", employee.getId());
+    }
+
+    /**
+     * Records a deleted employee without refetching the whole list. Idempotent like
+     * {@link #applyCreated}.
+     */
+    public synchronized void applyDeleted(Employee employee) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            discardLoadInFlight();
+            return;
+        }
+        if (!snapshot.contains(employee.getId())) {
+            return;
+        }
+        EmployeeSnapshot updated = snapshot.withDeleted(employee.getId());
+        generation.incrementAndGet();
+        current.set(updated);
+        lastKnownGood.set(updated);
+        listeners.forEach(listener -> listener.onDeleted(updated, employee));
+        log.debug("Employee snapshot: applied delete id={}", employee.getId());
+    }
+
+    /**
+     * @return the snapshot held right now whatever its age, {@code null} if there is none; not counted as a
+     *         read and never triggers a load.
+     */
+    EmployeeSnapshot current() {
+        return current.get();
+    }
+
+    // with no snapshot to update, a load that is running may have fetched the list before the change
+    private void discardLoadInFlight() {
+        if (inFlight.get() != null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the current snapshot if it is fresh or may be served stale, otherwise {@code null}.
+     */
+    private EmployeeSnapshot cached() {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return null;
+        }
+        Duration age = snapshot.age(clock.instant());
+        if (age.compareTo(ttl) < 0) {
+            hits.increment();
+            return snapshot;
+        }
+        if (age.compareTo(ttl.plus(staleWhileRevalidate)) < 0) {
+            staleHits.increment();
+            refreshInBackground();
+            return snapshot;
+        }
+        return null;
+    }
+
+    private EmployeeSnapshot publishUncached(List<Employee> employees) {
+        EmployeeSnapshot loaded = snapshotOf(employees);
+        lastKnownGood.set(loaded);
+        publish(loaded);
+        return loaded;
+    }
+
+    private EmployeeSnapshot snapshotOf(List<Employee> employees) {
+        return new EmployeeSnapshot(employees, clock.instant(), client.etagOf(employees).orElse(null));
+    }
+
+    private Optional<Served<EmployeeSnapshot>> fallback(Throwable failure) {
+        Optional<EmployeeSnapshot> fallback = usableLastKnownGood();
+        fallback.ifPresentOrElse(snapshot -> {
+            fallbacks.increment();
+            log.warn("Employee list unavailable ({}), serving last known good snapshot of age {}",
+                    failure.toString(), snapshot.age(clock.instant()));
+        }, () -> log.warn("Employee list unavailable ({}) and no snapshot younger than {} to fall back to",
+                failure.toString(), maxStaleness));
+        return fallback.map(snapshot -> Served.stale(snapshot, snapshot.age(clock.instant())));
+    }
+
+    private Mono<Served<EmployeeSnapshot>> fallbackReactive(Throwable failure) {
+        return Mono.defer(() -> fallback(failure).map(Mono::just).orElseGet(() -> Mono.error(failure)))
+                // listeners never run on a Netty event loop, see loadReactive()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Optional<EmployeeSnapshot> usableLastKnownGood() {
+        return Optional.ofNullable(lastKnownGood.get())
+                .filter(snapshot -> snapshot.age(clock.instant()).compareTo(maxStaleness) < 0);
+    }
+
+    private void refreshInBackground() {
+        if (inFlight.get() != null) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                loadShared(this::loadBlocking).join();
+            } catch (CompletionException ex) {
+                log.warn("Background refresh of employee snapshot failed: {}", ex.getCause().toString());
+            }
+        });
+    }
+
+    /**
+     * Single-flight load: the first caller performs the upstream fetch, everyone arriving while it
+     * is running receives the same future.
+     */
+    private CompletableFuture<EmployeeSnapshot> loadShared(Supplier<CompletableFuture<List<Employee>>> loader) {
+        CompletableFuture<EmployeeSnapshot> promise = new CompletableFuture<>();
+        CompletableFuture<EmployeeSnapshot> existing = inFlight.compareAndExchange(null, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        long startedAt = generation.get();
+        CompletableFuture<List<Employee>> pending;
+        try {
+            pending = loader.get();
+        } catch (RuntimeException ex) {
+            pending = CompletableFuture.failedFuture(ex);
+        }
+        pending.whenComplete((employees, error) -> {
+            Throwable failure = error instanceof CompletionException ? error.getCause() : error;
+            EmployeeSnapshot loaded = null;
+            if (failure == null) {
+                try {
+                    loaded = snapshotOf(employees);
+                    install(loaded, startedAt);
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                }
+            }
+            inFlight.set(null);
+            if (failure == null) {
+                refreshSuccesses.increment();
+                log.debug("Employee snapshot loaded size={}", loaded.employees().size());
+                promise.complete(loaded);
+            } else {
+                refreshFailures.increment();
+                promise.completeExceptionally(failure);
+            }
+        });
+        return promise;
+    }
+
+    // runs the upstream call on the calling thread
+    private CompletableFuture<List<Employee>> loadBlocking() {
+        return CompletableFuture.completedFuture(client.getAllEmployees());
+    }
+
+    // completes on a worker thread so that rebuilding listeners never runs on a Netty event loop
+    private CompletableFuture<List<Employee>> loadReactive() {
+        return client.getAllEmployeesReactive()
+                .publishOn(Schedulers.boundedElastic())
+                .toFuture();
+    }
+
+    private synchronized void install(EmployeeSnapshot loaded, long startedAt) {
+        if (generation.get() != startedAt) {
+            log.debug("Employee snapshot changed while loading, discarding loaded copy");
+            return;
+        }
+        current.set(loaded);
+        lastKnownGood.set(loaded);
+        publish(loaded);
+    }
+
+    private synchronized void publish(EmployeeSnapshot snapshot) {
+        listeners.forEach(listener -> listener.onSnapshot(snapshot));
+    }
+
+    private double ageSeconds() {
+        EmployeeSnapshot snapshot = current.get();
+        return snapshot == null ? Double.NaN : snapshot.age(clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static EmployeeSnapshot await(CompletableFuture<EmployeeSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("employee.cache.requests")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter refreshes(MeterRegistry registry, String outcome) {
+        return Counter.builder("employee.cache.refreshes")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.snapshot.EmployeeSnapshotFormat;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Reads and writes an {@link EmployeeSnapshot} as a compact binary file, in the {@link EmployeeSnapshotFormat}
+ * the mock server saves its dataset in too, so its file can warm this cache. The saved-at time of the file is
+ * the snapshot's {@link EmployeeSnapshot#loadedAt()}.
+ *
+ * @see EmployeeSnapshotPersistence
+ */
+public final class EmployeeSnapshotFile {
+
+    private EmployeeSnapshotFile() {
+    }
+
+    /**
+     * @throws IllegalStateException if {@code path} is not a snapshot file of a supported version, or is
+     *                               truncated
+     * @throws UncheckedIOException  if {@code path} cannot be read
+     */
+    public static EmployeeSnapshot read(Path path) {
+        EmployeeSnapshotFormat.Contents contents = EmployeeSnapshotFormat.read(path);
+        return new EmployeeSnapshot(contents.employees().stream()
+                .map(entry -> new Employee(
+                        entry.id(), entry.name(), entry.salary(), entry.age(), entry.title(), entry.email()))
+                .toList(), contents.savedAt());
+    }
+
+    /**
+     * @throws UncheckedIOException if {@code path} cannot be written
+     */
+    public static void write(Path path, EmployeeSnapshot snapshot) {
+        EmployeeSnapshotFormat.write(path, snapshot.loadedAt(), snapshot.employees().stream()
+                .map(employee -> new EmployeeSnapshotFormat.Entry(
+                        employee.getId(),
+                        employee.getName(),
+                        employee.getSalary(),
+                        employee.getAge(),
+                        employee.getTitle(),
+                        employee.getEmail()))
+                .toList());
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * Callback for structures derived from the employee snapshot (indexes, aggregates, ...).
+ * <p>
+ * {@link #onSnapshot(EmployeeSnapshot)} is called once for every snapshot loaded from the upstream so
+ * that listeners can rebuild; {@link #onCreated} and {@link #onDeleted} are called for writes that went
+ * through this API so that listeners can update incrementally instead. Callbacks are serialized by
+ * {@link EmployeeSnapshotCache}, listeners only need to make their state safe for concurrent readers.
+ */
+public interface EmployeeSnapshotListener {
+
+    void onSnapshot(EmployeeSnapshot snapshot);
+
+    /**
+     * @param snapshot the snapshot after the employee was added
+     * @param created  the employee that was created
+     */
+    default void onCreated(EmployeeSnapshot snapshot, Employee created) {
+        onSnapshot(snapshot);
+    }
+
+    /**
+     * @param snapshot the snapshot after the employee was removed
+     * @param deleted  the employee that was deleted
+     */
+    default void onDeleted(EmployeeSnapshot snapshot, Employee deleted) {
+        onSnapshot(snapshot);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saves the employee snapshot to {@code employee.cache.snapshot-file} on shutdown and warms the
+ * {@link EmployeeSnapshotCache} from it on startup, before the first request arrives. After a deploy the
+ * cache then answers at once and refreshes once in the background, instead of every early request
+ * waiting on the rate-limited upstream. Disabled while the property is empty.
+ * <p>
+ * A missing or unreadable file is logged and ignored: the cache simply starts cold.
+ *
+ * @see EmployeeSnapshotFile
+ */
+@Component
+public class EmployeeSnapshotPersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshotPersistence.class);
+
+    private final EmployeeSnapshotCache cache;
+    private final Path file;
+
+    public EmployeeSnapshotPersistence(
+            EmployeeSnapshotCache cache,
+            @Value("${employee.cache.snapshot-file:}") String file) {
+        this.cache = cache;
+        this.file = file.isBlank() ? null : Path.of(file);
+    }
+
+    @PostConstruct
+    void load() {
+        if (file == null || !cache.isEnabled() || !Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            EmployeeSnapshot saved = EmployeeSnapshotFile.read(file);
+            log.info("Read {} employees from snapshot file {}", saved.employees().size(), file);
+            cache.warm(saved);
+        } catch (RuntimeException ex) {
+            log.warn("Ignoring employee snapshot file {}: {}", file, ex.toString());
+        }
+    }
+
+    @PreDestroy
+    void save() {
+        if (file == null || !cache.isEnabled()) {
+            return;
+        }
+        cache.lastKnownGood().ifPresent(snapshot -> {
+            try {
+                EmployeeSnapshotFile.write(file, snapshot);
+                log.info("Saved {} employees to snapshot file {}", snapshot.employees().size(), file);
+            } catch (RuntimeException ex) {
+                log.warn("Could not save employee snapshot file {}: {}", file, ex.toString());
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A value together with how it was served: fresh, or from the last known good snapshot while the upstream is
+ * unavailable, in which case {@link #staleness()} is the age of that snapshot. Travels with the data instead
+ * of being read from the cache afterwards, so that concurrent requests cannot see each other's staleness.
+ *
+ * @param <T> the served value
+ * @see EmployeeSnapshotCache#read()
+ */
+public final class Served<T> {
+
+    private final T value;
+    private final Duration staleness;
+
+    private Served(T value, Duration staleness) {
+        this.value = value;
+        this.staleness = staleness;
+    }
+
+    public static <T> Served<T> fresh(T value) {
+        return new Served<>(value, null);
+    }
+
+    /**
+     * @param staleness the age of the last known good snapshot {@code value} comes from
+     */
+    public static <T> Served<T> stale(T value, Duration staleness) {
+        return new Served<>(value, Objects.requireNonNull(staleness, "staleness"));
+    }
+
+    public T value() {
+        return value;
+    }
+
+    /**
+     * @return the age of the data if it was served from the last known good snapshot, empty if it is fresh.
+     */
+    public Optional<Duration> staleness() {
+        return Optional.ofNullable(staleness);
+    }
+
+    /**
+     * @return {@code mapper} applied to the value, served as this value was.
+     */
+    public <R> Served<R> map(Function<? super T, ? extends R> mapper) {
+        return new Served<>(mapper.apply(value), staleness);
+    }
+
+    @Override
+    public String toString() {
+        return "Served[value=" + value + ", staleness=" + staleness + "]";
+    }
+}
@@ -0,0 +1,249 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client-side pacing for the rate-limited mock server, installed as a WebClient filter.
+ * <p>
+ * Requests take permits from a token bucket refilled at the current permit rate; callers that find it
+ * empty are delayed until their permit is due, or shed with {@link RateLimitedException} when that is
+ * more than {@code max-queue-wait} away; a delayed caller that is cancelled before its turn returns its
+ * permit. The rate is learned AIMD-style: every 2xx/3xx answer raises it by {@code additive-increase},
+ * every 429 multiplies it by {@code decrease-factor}; other errors leave it alone, since a failing upstream
+ * is no sign that it could take more requests. A {@code Retry-After} on a 429 additionally holds all
+ * permits until then. A throttled request is sent again (at most
+ * {@code max-retries} times) once it gets a new permit: the upstream rejected it before processing, so
+ * this is safe for writes as well.
+ * <p>
+ * Metrics: gauge {@code employee.client.rate-limiter.permits} (current permits per second) and
+ * {@code employee.client.rate-limiter.requests{outcome=immediate|queued|shed|throttled}}.
+ */
+@Component
+public class AdaptiveRateLimiter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final boolean enabled;
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double decreaseFactor;
+    private final long maxQueueWaitNanos;
+    private final int maxRetries;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+
+    private final Counter immediate;
+    private final Counter queued;
+    private final Counter shed;
+    private final Counter throttled;
+
+    public AdaptiveRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${employee.client.rate-limit.enabled:true}") boolean enabled,
+            @Value("${employee.client.rate-limit.initial-rate:5}") double initialRate,
+            @Value("${employee.client.rate-limit.min-rate:0.1}") double minRate,
+            @Value("${employee.client.rate-limit.max-rate:100}") double maxRate,
+            @Value("${employee.client.rate-limit.additive-increase:0.05}") double additiveIncrease,
+            @Value("${employee.client.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+            @Value("${employee.client.rate-limit.max-queue-wait:2s}") Duration maxQueueWait,
+            @Value("${employee.client.rate-limit.max-retries:1}") int maxRetries) {
+        this(meterRegistry, enabled, initialRate, minRate, maxRate, additiveIncrease, decreaseFactor,
+                maxQueueWait, maxRetries, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            double initialRate,
+            double minRate,
+            double maxRate,
+            double additiveIncrease,
+            double decreaseFactor,
+            Duration maxQueueWait,
+            int maxRetries,
+            LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = additiveIncrease;
+        this.decreaseFactor = decreaseFactor;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.maxRetries = maxRetries;
+        this.nanoClock = nanoClock;
+        this.rate = initialRate;
+        this.tokens = 1;
+        this.lastRefill = nanoClock.getAsLong();
+        this.blockedUntil = lastRefill;
+
+        this.immediate = requests(meterRegistry, "immediate");
+        this.queued = requests(meterRegistry, "queued");
+        this.shed = requests(meterRegistry, "shed");
+        this.throttled = requests(meterRegistry, "throttled");
+        Gauge.builder("employee.client.rate-limiter.permits", this, AdaptiveRateLimiter::permitsPerSecond)
+                .description("Current client-side permit rate towards the employee API (per second)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        return exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        return Mono.defer(() -> {
+            long wait = reserve();
+            if (wait < 0) {
+                shed.increment();
+                Duration expected = Duration.ofNanos(nextPermitIn());
+                log.debug("Rate limiter: shedding {} {}, next permit in {}", request.method(), request.url(), expected);
+                return Mono.error(new RateLimitedException(expected));
+            }
+            (wait == 0 ? immediate : queued).increment();
+
+            Mono<ClientResponse> call = next.exchange(request).flatMap(response -> {
+                HttpStatusCode status = response.statusCode();
+                if (status.value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+                        onSucceeded();
+                    }
+                    return Mono.just(response);
+                }
+                throttled.increment();
+                onThrottled(retryAfter(response.headers().asHttpHeaders()));
+                if (attempt >= maxRetries) {
+                    return Mono.just(response);
+                }
+                return response.releaseBody().then(exchange(request, next, attempt + 1));
+            });
+            if (wait == 0) {
+                return call;
+            }
+            // a caller that gives up while queued (timeout, disconnect) hands its permit back
+            return Mono.delay(Duration.ofNanos(wait)).doOnCancel(this::release).then(call);
+        });
+    }
+
+    /**
+     * Takes the next permit.
+     *
+     * @return nanoseconds until the permit is due, {@code -1} if that exceeds the maximum queue wait (no
+     *         permit is taken then).
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long wait = waitForPermit(now);
+        if (wait > maxQueueWaitNanos) {
+            return -1;
+        }
+        tokens -= 1; // below zero: permits promised to queued callers
+        return wait;
+    }
+
+    /**
+     * Returns a permit taken by {@link #reserve()} whose request was never sent.
+     */
+    synchronized void release() {
+        tokens = Math.min(Math.max(1, rate), tokens + 1);
+    }
+
+    synchronized void onSucceeded() {
+        rate = Math.min(maxRate, rate + additiveIncrease);
+    }
+
+    /**
+     * @param retryAfter the upstream's {@code Retry-After}, {@code null} if absent
+     */
+    synchronized void onThrottled(Duration retryAfter) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        rate = Math.max(minRate, rate * decreaseFactor);
+        tokens = Math.min(tokens, 0);
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            blockedUntil = Math.max(blockedUntil, now + retryAfter.toNanos());
+            lastRefill = Math.max(lastRefill, blockedUntil); // nothing accrues while blocked
+        }
+        log.info("Rate limiter: upstream returned 429 (Retry-After={}), permit rate now {}/s",
+                retryAfter, String.format("%.2f", rate));
+    }
+
+    synchronized double permitsPerSecond() {
+        return rate;
+    }
+
+    private synchronized long nextPermitIn() {
+        return waitForPermit(nanoClock.getAsLong());
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            double burst = Math.max(1, rate); // at most one second worth of permits
+            tokens = Math.min(burst, tokens + (now - lastRefill) / NANOS_PER_SECOND * rate);
+            lastRefill = now;
+        }
+    }
+
+    private long waitForPermit(long now) {
+        long wait = Math.max(0, lastRefill - now);
+        if (tokens < 1) {
+            wait += (long) ((1 - tokens) / rate * NANOS_PER_SECOND);
+        }
+        return wait;
+    }
+
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration until = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException ex) {
+            log.debug("Ignoring unparseable Retry-After '{}'", value);
+            return null;
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String outcome) {
+        return Counter.builder("employee.client.rate-limiter.requests")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -3,160 +3,437 @@ package com.reliaquest.api.client;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
-import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
-import io.github.resilience4j.reactor.retry.RetryOperator;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeePage;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * Thin wrapper around WebClient for calling the mock Employee API.
- * Configured CircuitBreaker (Resilience4j (CircuitBreakerOperator and RetryOperator)),
- * timeout and a fallback (onErrorResume) to return an empty list instead of propagating errors
- * wrap timing in timed(...) so Micrometer metrics are recorded.
+ * WebClient-based client for the mock Employee API. Every operation has its own circuit breaker, bulkhead,
+ * time limiter and retry (see {@link EmployeeApiResilience}) and its own Micrometer latency timers, registered
+ * up front. Reads propagate upstream failures instead of answering with an empty result, so that
+ * {@link com.reliaquest.api.cache.EmployeeSnapshotCache} can fall back to the last known good data and
+ * callers can tell an outage from an empty dataset; the idempotent reads {@code getById} and
+ * {@code getAllEmployees} may be hedged (see {@link RequestHedger}). The full list is fetched conditionally,
+ * sending the ETag of the last list as If-None-Match and reusing that list on a 304, and with
+ * {@code employee.client.streaming} it is requested as NDJSON and decoded one employee at a time instead of
+ * buffering the whole response body. Every operation has a {@code ...Reactive} variant returning a
+ * {@link Mono}; the blocking methods block on it and serve the servlet (blocking) controller.
  */
 @Component
 public class EmployeeApiClient {
     private static final Logger log = LoggerFactory.getLogger(EmployeeApiClient.class);
-    private final CircuitBreaker cb;
-    private final Retry retry;
+    private static final List<String> OPERATIONS = List.of(
+            "getAllEmployees", "getPage", "getChanges", "getById", "getByIds", "createEmployee", "deleteByName");
+    // ids the mock server accepts in one POST /batch
+    static final int MAX_BATCH_SIZE = 1000;
+    private final EmployeeApiResilience resilience;
+    private final RequestHedger hedger;
     private final MeterRegistry meterRegistry;
     private final WebClient webClient;
+    private final boolean streaming;
+    private final RequestCoalescer<String, Employee> byId;
+    private final int batchSize;
+    private final int batchConcurrency;
+    // last full list together with the ETag it was served with
+    private final AtomicReference<TaggedEmployees> lastEmployees = new AtomicReference<>();
+    private final Counter listModified;
+    private final Counter listNotModified;
+    private final Timer decode;
+    private final Map<String, OperationTimers> latency = new HashMap<>();
 
-    public EmployeeApiClient(WebClient employeeWebClient, MeterRegistry meterRegistry) {
+    public EmployeeApiClient(
+            WebClient employeeWebClient,
+            MeterRegistry meterRegistry,
+            EmployeeApiResilience resilience,
+            RequestHedger hedger,
+            @Value("${employee.client.streaming:true}") boolean streaming,
+            @Value("${employee.client.coalescing.ttl:1s}") Duration coalescingTtl,
+            @Value("${employee.client.coalescing.max-entries:10000}") int coalescingMaxEntries,
+            @Value("${employee.client.batch.size:200}") int batchSize,
+            @Value("${employee.client.batch.concurrency:4}") int batchConcurrency) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "employee.client.batch.size must be between 1 and " + MAX_BATCH_SIZE + ": " + batchSize);
+        }
+        if (batchConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "employee.client.batch.concurrency must be positive: " + batchConcurrency);
+        }
         this.webClient = employeeWebClient;
         this.meterRegistry = meterRegistry;
-
-        CircuitBreakerConfig cbConfig = CircuitBreakerConfig.custom()
-                .failureRateThreshold(50)
-                .minimumNumberOfCalls(10)
-                .slidingWindowSize(10)
-                .build();
-        this.cb = CircuitBreaker.of("employeeApi", cbConfig);
-
-        RetryConfig retryConfig = RetryConfig.custom()
-                .maxAttempts(3)
-                .waitDuration(Duration.ofMillis(200))
-                .retryOnException(throwable ->
-                        // only retry on transient/network exceptions, not on WebClientResponseException for 4xx
-                        throwable instanceof java.io.IOException
-                                || throwable instanceof java.net.ConnectException
-                                || throwable instanceof java.net.SocketTimeoutException)
-                .build();
-        this.retry = Retry.of("employeeApiRetry", retryConfig);
+        this.resilience = resilience;
+        this.hedger = hedger;
+        this.streaming = streaming;
+        this.batchSize = batchSize;
+        this.batchConcurrency = batchConcurrency;
+        this.byId = new RequestCoalescer<>(
+                "employee.client.coalescing", coalescingTtl, coalescingMaxEntries, meterRegistry);
+        this.listModified = conditionalRequests(meterRegistry, "modified");
+        this.listNotModified = conditionalRequests(meterRegistry, "not_modified");
+        this.decode = ExchangeStageTimer.stage(meterRegistry, "decode");
+        for (String operation : OPERATIONS) {
+            latency.put(operation, new OperationTimers(
+                    latency(meterRegistry, operation, "success"), latency(meterRegistry, operation, "failure")));
+            resilience.operation(operation);
+        }
     }
 
     public List<Employee> getAllEmployees() {
-        return timed("getAllEmployees", () -> {
-            List<Employee> out = webClient
-                    .get()
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {
-                    })
-                    .map(ApiResponse::getData)
-                    .transformDeferred(RetryOperator.of(retry)) // safe for GETs
-                    .transformDeferred(CircuitBreakerOperator.of(cb))
-                    .doOnSuccess(list -> log.info("Fetched {} employees", list == null ? 0 : list.size()))
-                    .timeout(Duration.ofSeconds(5))
-                    .onErrorResume(io.github.resilience4j.circuitbreaker.CallNotPermittedException.class, ex -> {
-                        log.warn("Circuit breaker open for employeeApi - returning fallback empty list");
-                        // We Could also increment a Micrometer counter here
-                        return Mono.just(List.<Employee>of());
-                    })
-                    .onErrorResume(ex -> {
-                        log.error("Failed to fetch employees: {}", ex.toString(), ex);
-                        return Mono.just(List.of());
-                    })
-                    .block();
-            return out == null ? List.of() : out;
+        List<Employee> out = getAllEmployeesReactive().block();
+        return out == null ? List.of() : out;
+    }
+
+    /**
+     * Non-blocking variant of {@link #getAllEmployees()}; errors if the upstream fails or the circuit breaker
+     * is open.
+     */
+    public Mono<List<Employee>> getAllEmployeesReactive() {
+        return timed("getAllEmployees", hedger.hedge("getAllEmployees", fetchAllEmployees())
+                .transform(guarded("getAllEmployees"))
+                .doOnSuccess(list -> log.info("Fetched {} employees", list == null ? 0 : list.size()))
+                .doOnError(CallNotPermittedException.class,
+                        ex -> log.warn("Circuit breaker getAllEmployees open - not calling upstream"))
+                .doOnError(ex -> !(ex instanceof CallNotPermittedException),
+                        ex -> log.error("Failed to fetch employees: {}", ex.toString(), ex))
+                .defaultIfEmpty(List.of()));
+    }
+
+    /**
+     * Streams all employees as they are decoded from the upstream response, so that memory use does not
+     * grow with the number of employees. Upstream failures are propagated like those of
+     * {@link #getAllEmployeesReactive()}, but may arrive after some employees have already been emitted:
+     * a stream that ends with an error is incomplete. The request is neither conditional nor hedged.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        return fetchEmployees()
+                .transform(resilience.operation("getAllEmployees")::decorate)
+                .timeout(Duration.ofSeconds(5)) // between two employees
+                .doOnError(ex -> log.error("Failed to stream employees: {}", ex.toString()));
+    }
+
+    /**
+     * @return the ETag the upstream served {@code employees} with, if that list instance is the last full list
+     *         this client fetched; empty for any other list or if the upstream sent no ETag.
+     */
+    public Optional<String> etagOf(List<Employee> employees) {
+        TaggedEmployees last = lastEmployees.get();
+        return last != null && last.employees() == employees ? Optional.of(last.etag()) : Optional.empty();
+    }
+
+    /**
+     * Fetches the full list with If-None-Match when a previous list carried an ETag. On a 304 the
+     * previous list is returned as is, nothing is transferred or decoded.
+     */
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return Mono.defer(() -> {
+            TaggedEmployees last = lastEmployees.get();
+            WebClient.RequestHeadersSpec<?> request = webClient.get();
+            if (streaming) {
+                request = request.accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON);
+            }
+            if (last != null) {
+                request = request.ifNoneMatch(last.etag());
+            }
+            return request.exchangeToMono(response -> {
+                if (last != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    listNotModified.increment();
+                    log.debug("Employee list not modified since {}", last.etag());
+                    return response.releaseBody().thenReturn(last.employees());
+                }
+                if (response.statusCode().isError()) {
+                    return response.createException().flatMap(Mono::error);
+                }
+                listModified.increment();
+                String etag = response.headers().asHttpHeaders().getETag();
+                Timer.Sample decoding = Timer.start(meterRegistry);
+                return decodeEmployees(response).collectList().map(decoded -> {
+                    decoding.stop(decode);
+                    List<Employee> employees = List.copyOf(decoded);
+                    lastEmployees.set(etag == null ? null : new TaggedEmployees(etag, employees));
+                    return employees;
+                });
+            });
         });
     }
 
+    /**
+     * Asks for NDJSON; falls back to the enveloped JSON list if the upstream does not support it.
+     */
+    private Flux<Employee> fetchEmployees() {
+        return webClient
+                .get()
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .exchangeToFlux(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.createException().flatMapMany(Mono::error);
+                    }
+                    return decodeEmployees(response);
+                });
+    }
+
+    // NDJSON one employee at a time, anything else as the enveloped list
+    private static Flux<Employee> decodeEmployees(ClientResponse response) {
+        boolean ndjson = response.headers().contentType()
+                .map(MediaType.APPLICATION_NDJSON::isCompatibleWith)
+                .orElse(false);
+        if (ndjson) {
+            return response.bodyToFlux(Employee.class);
+        }
+        return response.bodyToMono(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {
+                })
+                .flatMapIterable(body -> body.getData() == null ? List.of() : body.getData());
+    }
+
+    public EmployeePage getPage(EmployeeFilter filter, int size, String cursor) {
+        return getPageReactive(filter, size, cursor).block();
+    }
+
+    /**
+     * Fetches one page of the filtered listing; filtering happens on the mock server. Errors are
+     * propagated: an empty fallback page would silently end a walk over the pages.
+     *
+     * @param cursor {@link EmployeePage#getNextCursor()} of the previous page, {@code null} for the first page
+     */
+    public Mono<EmployeePage> getPageReactive(EmployeeFilter filter, int size, String cursor) {
+        return timed("getPage", webClient
+                .get()
+                .uri(uri -> uri.path("/page")
+                        .queryParam("size", size)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParamIfPresent("name", Optional.ofNullable(filter.getName()))
+                        .queryParamIfPresent("minSalary", Optional.ofNullable(filter.getMinSalary()))
+                        .queryParamIfPresent("maxSalary", Optional.ofNullable(filter.getMaxSalary()))
+                        .queryParamIfPresent("minAge", Optional.ofNullable(filter.getMinAge()))
+                        .queryParamIfPresent("maxAge", Optional.ofNullable(filter.getMaxAge()))
+                        .queryParamIfPresent("title", Optional.ofNullable(filter.getTitle()))
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {
+                })
+                .map(ApiResponse::getData)
+                .transform(guarded("getPage"))
+                .doOnSuccess(page -> log.info("Fetched page size={} cursor={} -> {} employees",
+                        size, cursor, page == null ? 0 : page.getEmployees().size()))
+                .doOnError(ex -> log.warn("Failed to fetch page cursor={}: {}", cursor, ex.toString())));
+    }
+
+    /**
+     * Reads the change feed after version {@code since} of dataset {@code epoch}; without {@code since}
+     * only the current epoch and version. Errors are propagated, a
+     * {@link org.springframework.web.reactive.function.client.WebClientResponseException.Gone} means the
+     * changes are no longer available and the full list has to be reloaded.
+     */
+    public Mono<EmployeeChanges> getChangesReactive(Long since, String epoch, int limit) {
+        return timed("getChanges", webClient
+                .get()
+                .uri(uri -> uri.path("/changes")
+                        .queryParam("limit", limit)
+                        .queryParamIfPresent("since", Optional.ofNullable(since))
+                        .queryParamIfPresent("epoch", Optional.ofNullable(epoch))
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<EmployeeChanges>>() {
+                })
+                .map(ApiResponse::getData)
+                .transform(guarded("getChanges"))
+                .doOnSuccess(changes -> log.debug("Fetched {} changes since={}",
+                        changes == null ? 0 : changes.getChanges().size(), since)));
+    }
+
+    /**
+     * Walks all pages of the filtered listing. Pages are requested only as the subscriber consumes
+     * employees, so e.g. {@code take(n)} stops fetching once {@code n} employees have been emitted.
+     */
+    public Flux<Employee> getEmployeesPaged(EmployeeFilter filter, int pageSize) {
+        return getPageReactive(filter, pageSize, null)
+                .expand(page -> page.getNextCursor() == null
+                        ? Mono.empty()
+                        : getPageReactive(filter, pageSize, page.getNextCursor()))
+                .concatMapIterable(EmployeePage::getEmployees, 1);
+    }
+
     public Employee getById(String id) {
-        return timed("getById", () -> webClient
+        return getByIdReactive(id).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getById(String)}; completes empty if not found, errors if the upstream
+     * fails or the circuit breaker is open.
+     * Concurrent lookups of the same id share one upstream call, see {@link RequestCoalescer}.
+     */
+    public Mono<Employee> getByIdReactive(String id) {
+        return byId.get(id, this::fetchById)
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty())
+                .doOnError(ex -> log.warn("Failed to fetch employee id={}: {}", id, ex.toString()));
+    }
+
+    private Mono<Employee> fetchById(String id) {
+        Mono<ApiResponse<Employee>> request = webClient
                 .get()
                 .uri("/{id}", id)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {
-                })
+                });
+        return timed("getById", hedger.hedge("getById", request)
                 .map(ApiResponse::getData)
-                .transformDeferred(RetryOperator.of(retry))
-                .transformDeferred(CircuitBreakerOperator.of(cb))
-                .doOnSuccess(emp -> log.info("Fetched employee id={} found={}", id, emp != null))
-                .timeout(Duration.ofSeconds(5))
-                .doOnError(ex -> log.warn("Failed to fetch employee id={}: {}", id, ex.toString()))
-                .onErrorResume(ex -> Mono.empty())
-                .block());
+                .transform(guarded("getById"))
+                .doOnSuccess(emp -> log.info("Fetched employee id={} found={}", id, emp != null)));
     }
 
-    public Employee create(CreateEmployeeRequest req) {
-        return timed("createEmployee", () -> {
-            // perform call and throw on non-2xx instead
-            ApiResponse<Employee> response = webClient.post()
-                    .bodyValue(Map.of(
-                            "name", req.getName(),
-                            "salary", req.getSalary(),
-                            "age", req.getAge(),
-                            "title", req.getTitle()))
-                    .retrieve()
-                    // surface 4xx/5xx as WebClientResponseException so we can handle/log
-                    .onStatus(HttpStatusCode::isError, resp ->
-                            resp.bodyToMono(String.class)
-                                    .defaultIfEmpty(resp.statusCode().toString())
-                                    .flatMap(body -> {
-                                        String msg = "Employee API returned status " + resp.statusCode() + ": " + body;
-                                        log.warn(msg);
-                                        return Mono.error(new RuntimeException(msg));
-                                    }))
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {
-                    })
-                    .transformDeferred(RetryOperator.of(retry))
-                    .transformDeferred(CircuitBreakerOperator.of(cb))     // protect POST (no retry)
-                    .timeout(Duration.ofSeconds(5))
-                    .doOnSuccess(empResp -> log.debug("Raw create response: {}", empResp))
-                    .doOnError(ex -> log.error("Create employee failed name={}: {}", req.getName(), ex.toString()))
-                    .block(); // may be null if remote returned empty body
-
-            if (response == null) {
-                String msg = "Employee API returned empty response for create";
-                log.error(msg);
-                throw new RuntimeException(msg);
-            }
+    public Map<String, Employee> getByIds(Collection<String> ids) {
+        Map<String, Employee> found = getByIdsReactive(ids).block();
+        return found == null ? Map.of() : found;
+    }
 
-            Employee created = response.getData();
-            if (created == null) {
-                // If API returned wrapper but no data, treat as error
-                String msg = "Employee API returned no employee object in response.data";
-                log.error(msg + " — full response: {}", response);
-                throw new RuntimeException(msg);
-            }
+    /**
+     * Looks up many employees with batch requests of {@code employee.client.batch.size} ids, at most
+     * {@code employee.client.batch.concurrency} of them in flight. Duplicate ids and ids that are not
+     * UUIDs (which the upstream would reject for the whole batch) are dropped up front.
+     *
+     * @return the employees found, keyed by id; unknown ids are left out. Errors if a batch fails.
+     */
+    public Mono<Map<String, Employee>> getByIdsReactive(Collection<String> ids) {
+        List<String> valid = ids.stream()
+                .filter(EmployeeApiClient::isUuid)
+                .distinct()
+                .toList();
+        if (valid.size() < ids.size()) {
+            log.debug("Batch lookup: {} of {} ids dropped as duplicate or invalid",
+                    ids.size() - valid.size(), ids.size());
+        }
+        if (valid.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            batches.add(valid.subList(from, Math.min(from + batchSize, valid.size())));
+        }
+        return Flux.fromIterable(batches)
+                .flatMap(this::fetchBatch, batchConcurrency)
+                .collect(LinkedHashMap<String, Employee>::new, Map::putAll)
+                .map(Collections::unmodifiableMap);
+    }
 
-            return created;
-        });
+    private Mono<Map<String, Employee>> fetchBatch(List<String> ids) {
+        return timed("getByIds", webClient
+                .post()
+                .uri("/batch")
+                .bodyValue(Map.of("ids", ids))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Map<String, Employee>>>() {
+                })
+                .mapNotNull(ApiResponse::getData)
+                .transform(guarded("getByIds"))
+                .defaultIfEmpty(Map.of())
+                .doOnSuccess(found -> log.info("Fetched batch of {} ids -> {} found", ids.size(), found.size()))
+                .doOnError(ex -> log.warn("Batch lookup of {} ids failed: {}", ids.size(), ex.toString())));
+    }
+
+    private static boolean isUuid(String id) {
+        if (id == null || id.length() != 36) { // UUID.fromString also accepts non-canonical forms
+            return false;
+        }
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    public Employee create(CreateEmployeeRequest req) {
+        return createReactive(req).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #create(CreateEmployeeRequest)}; errors if the upstream did not
+     * return the created employee.
+     */
+    public Mono<Employee> createReactive(CreateEmployeeRequest req) {
+        // perform call and throw on non-2xx instead
+        return timed("createEmployee", webClient.post()
+                .bodyValue(Map.of(
+                        "name", req.getName(),
+                        "salary", req.getSalary(),
+                        "age", req.getAge(),
+                        "title", req.getTitle()))
+                .retrieve()
+                // surface 4xx/5xx as WebClientResponseException so we can handle/log
+                .onStatus(HttpStatusCode::isError, resp ->
+                        resp.bodyToMono(String.class)
+                                .defaultIfEmpty(resp.statusCode().toString())
+                                .flatMap(body -> {
+                                    String msg = "Employee API returned status " + resp.statusCode() + ": " + body;
+                                    log.warn(msg);
+                                    return Mono.error(new RuntimeException(msg));
+                                }))
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {
+                })
+                .transform(guarded("createEmployee")) // POST: not retried with the default configuration
+                .doOnSuccess(empResp -> log.debug("Raw create response: {}", empResp))
+                .doOnError(ex -> log.error("Create employee failed name={}: {}", req.getName(), ex.toString()))
+                // may be empty if remote returned empty body
+                .switchIfEmpty(Mono.defer(() -> {
+                    String msg = "Employee API returned empty response for create";
+                    log.error(msg);
+                    return Mono.error(new RuntimeException(msg));
+                }))
+                .flatMap(response -> {
+                    Employee created = response.getData();
+                    if (created == null) {
+                        // If API returned wrapper but no data, treat as error
+                        String msg = "Employee API returned no employee object in response.data";
+                        log.error(msg + " — full response: {}", response);
+                        return Mono.error(new RuntimeException(msg));
+                    }
+                    return Mono.just(created);
+                }));
     }
 
     /**
      * NOTE: The mock server expects DELETE /employee/{name} with BODY { "name": "..." } and returns { "data": true }.
      */
     public boolean deleteByName(String name) {
-        Boolean ok = webClient.method(HttpMethod.DELETE)
+        return Boolean.TRUE.equals(deleteByNameReactive(name).block());
+    }
+
+    /**
+     * Non-blocking variant of {@link #deleteByName(String)}; never errors, emits false if not deleted.
+     */
+    public Mono<Boolean> deleteByNameReactive(String name) {
+        return timed("deleteByName", webClient.method(HttpMethod.DELETE)
                 .uri("/{name}", name)
                 .bodyValue(Map.of("name", name))
                 .retrieve()
@@ -168,32 +445,51 @@ public class EmployeeApiClient {
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<Boolean>>() {
                 })
                 .map(r -> Boolean.TRUE.equals(r.getData()))
-                .transformDeferred(CircuitBreakerOperator.of(cb))
+                .transform(guarded("deleteByName"))
                 .defaultIfEmpty(false)
-                .timeout(Duration.ofSeconds(5))
+                .doOnNext(deleted -> {
+                    if (deleted) {
+                        byId.invalidateIf(e -> name.equalsIgnoreCase(e.getName()));
+                    }
+                })
                 .doOnSuccess(result -> log.info("Delete name={} result={}", name, result))
-                .doOnError(ex -> log.warn("Delete name={} failed: {}", name, ex.toString()))
-                .onErrorReturn(false)
-                .block();
-        return Boolean.TRUE.equals(ok);
+                .doOnError(ex -> log.warn("Delete name={} failed: {}", name, ex.toString())))
+                .onErrorReturn(false);
     }
 
 
-    private <T> T timed(String operation, Supplier<T> supplier) {
-        Timer.Sample sample = Timer.start(meterRegistry);
-        try {
-            T result = supplier.get();
-            sample.stop(Timer.builder("employee.api.latency")
-                    .tag("operation", operation)
-                    .tag("status", "success")
-                    .register(meterRegistry));
-            return result;
-        } catch (Exception ex) {
-            sample.stop(Timer.builder("employee.api.latency")
-                    .tag("operation", operation)
-                    .tag("status", "failure")
-                    .register(meterRegistry));
-            throw ex;
-        }
+    private record TaggedEmployees(String etag, List<Employee> employees) {
+    }
+
+    private record OperationTimers(Timer success, Timer failure) {
+    }
+
+    private static Counter conditionalRequests(MeterRegistry registry, String result) {
+        return Counter.builder("employee.client.list.requests")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Timer latency(MeterRegistry registry, String operation, String status) {
+        return Timer.builder("employee.api.latency")
+                .description("Latency of a call to the employee API, including retries")
+                .tag("operation", operation)
+                .tag("status", status)
+                .register(registry);
+    }
+
+    private <T> Function<Mono<T>, Mono<T>> guarded(String operation) {
+        EmployeeApiResilience.Operation guards = resilience.operation(operation);
+        return guards::decorate;
+    }
+
+    private <T> Mono<T> timed(String operation, Mono<T> call) {
+        OperationTimers timers = latency.get(operation);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> sample.stop(timers.success()))
+                    .doOnError(ex -> sample.stop(timers.failure()));
+        });
     }
 }
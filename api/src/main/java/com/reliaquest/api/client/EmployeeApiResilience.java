@@ -0,0 +1,153 @@
+package com.reliaquest.api.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerEvent;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.retry.event.RetryEvent;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breaker, semaphore bulkhead, time limiter and retry of each {@link EmployeeApiClient} operation,
+ * taken from the Resilience4j registries that Spring Boot builds from the {@code resilience4j} block of
+ * {@code application.yml}. The instances are named after the operation ({@code getById}, {@code createEmployee},
+ * ...); an operation without an entry of its own gets {@code configs.default}. Failing writes therefore open
+ * only the write breakers, and a slow operation can hold at most its own bulkhead's worth of connections.
+ * <p>
+ * Bulkheads are semaphores: the calls are non-blocking, a thread-pool bulkhead would only add a hand-off.
+ * Besides the metrics Resilience4j publishes per instance, retry and circuit breaker events are counted as
+ * {@code employee.client.retry.events} and {@code employee.client.circuitbreaker.events} by {@code name} and
+ * {@code type}.
+ */
+@Component
+public class EmployeeApiResilience {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeApiResilience.class);
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryRegistry retries;
+    private final BulkheadRegistry bulkheads;
+    private final TimeLimiterRegistry timeLimiters;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public EmployeeApiResilience(
+            CircuitBreakerRegistry circuitBreakers,
+            RetryRegistry retries,
+            BulkheadRegistry bulkheads,
+            TimeLimiterRegistry timeLimiters,
+            MeterRegistry meterRegistry) {
+        this.circuitBreakers = circuitBreakers;
+        this.retries = retries;
+        this.bulkheads = bulkheads;
+        this.timeLimiters = timeLimiters;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Resilience4j's built-in defaults for every operation; for tests and benchmarks outside of Spring.
+     */
+    public static EmployeeApiResilience ofDefaults(MeterRegistry meterRegistry) {
+        return new EmployeeApiResilience(
+                CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(),
+                meterRegistry);
+    }
+
+    /**
+     * @return the instances of {@code name}, created from the registries on first use.
+     */
+    public Operation operation(String name) {
+        return operations.computeIfAbsent(name, this::create);
+    }
+
+    private Operation create(String name) {
+        Operation operation = new Operation(
+                circuitBreakers.circuitBreaker(name),
+                retries.retry(name),
+                bulkheads.bulkhead(name),
+                timeLimiters.timeLimiter(name));
+
+        Map<CircuitBreakerEvent.Type, Counter> cbEvents = events(
+                "employee.client.circuitbreaker.events", name, CircuitBreakerEvent.Type.class);
+        operation.circuitBreaker().getEventPublisher().onEvent(event -> cbEvents.get(event.getEventType()).increment());
+        Map<RetryEvent.Type, Counter> retryEvents = events(
+                "employee.client.retry.events", name, RetryEvent.Type.class);
+        operation.retry().getEventPublisher().onEvent(event -> retryEvents.get(event.getEventType()).increment());
+
+        log.info("Employee API operation {}: circuitBreaker(failureRate={}%, window={}) bulkhead(maxConcurrent={}) "
+                        + "timeLimit={} retry(maxAttempts={})",
+                name,
+                operation.circuitBreaker().getCircuitBreakerConfig().getFailureRateThreshold(),
+                operation.circuitBreaker().getCircuitBreakerConfig().getSlidingWindowSize(),
+                operation.bulkhead().getBulkheadConfig().getMaxConcurrentCalls(),
+                operation.timeLimiter().getTimeLimiterConfig().getTimeoutDuration(),
+                operation.retry().getRetryConfig().getMaxAttempts());
+        return operation;
+    }
+
+    // one counter per event type, tagged with its lower-case name
+    private <E extends Enum<E>> Map<E, Counter> events(String metric, String name, Class<E> type) {
+        Map<E, Counter> counters = new EnumMap<>(type);
+        for (E eventType : type.getEnumConstants()) {
+            counters.put(eventType, Counter.builder(metric)
+                    .tag("name", name)
+                    .tag("type", eventType.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+
+    /**
+     * The instances guarding one operation.
+     *
+     * @param circuitBreaker opens on the failure rate of this operation only
+     * @param retry          outermost; every attempt passes the breaker, bulkhead and time limit again
+     * @param bulkhead       caps the calls of this operation in flight; a full bulkhead fails fast with
+     *                       {@link io.github.resilience4j.bulkhead.BulkheadFullException}
+     * @param timeLimiter    limits each attempt
+     */
+    public record Operation(CircuitBreaker circuitBreaker, Retry retry, Bulkhead bulkhead, TimeLimiter timeLimiter) {
+
+        public <T> Mono<T> decorate(Mono<T> call) {
+            return call
+                    .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .transformDeferred(RetryOperator.of(retry));
+        }
+
+        /**
+         * Streams are not retried or time limited as a whole: a partially consumed stream cannot be repeated,
+         * and its duration grows with the data set.
+         */
+        public <T> Flux<T> decorate(Flux<T> stream) {
+            return stream
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Splits every exchange with the mock server into stages, recorded as {@code employee.client.stage}:
+ * <ul>
+ *   <li>{@code acquire} – from handing the request to Reactor Netty until it is about to be written: waiting
+ *       for a pooled connection and, for a new one, connecting</li>
+ *   <li>{@code upstream_wait} – from then until the response headers arrived</li>
+ * </ul>
+ * Reading and decoding the body is recorded by {@link EmployeeApiClient} as stage {@code decode}.
+ * <p>
+ * Needs both halves: the filter starts the clock in the Reactor context of the exchange, and the hooks added
+ * by {@link #instrument(HttpClient)} read it back when Reactor Netty sends the request and receives the
+ * response. Register the filter innermost so that time spent in {@link AdaptiveRateLimiter} is not counted.
+ */
+@Component
+public class ExchangeStageTimer implements ExchangeFilterFunction {
+
+    static final String METRIC = "employee.client.stage";
+    private static final String CONTEXT_KEY = ExchangeStageTimer.class.getName();
+
+    private final Timer acquire;
+    private final Timer upstreamWait;
+    private final LongSupplier nanoClock;
+
+    public ExchangeStageTimer(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    ExchangeStageTimer(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.acquire = stage(meterRegistry, "acquire");
+        this.upstreamWait = stage(meterRegistry, "upstream_wait");
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        // deferred: a request re-sent by an outer filter is timed afresh
+        return Mono.defer(() -> next.exchange(request)
+                .contextWrite(Context.of(CONTEXT_KEY, new Exchange(nanoClock.getAsLong()))));
+    }
+
+    /**
+     * @return {@code http} with the hooks that close the stages of exchanges started through this filter.
+     */
+    public HttpClient instrument(HttpClient http) {
+        return http
+                .doOnRequest((request, connection) -> exchange(request.currentContextView())
+                        .ifPresent(this::sent))
+                .doOnResponse((response, connection) -> exchange(response.currentContextView())
+                        .ifPresent(this::answered));
+    }
+
+    void sent(Exchange exchange) {
+        long now = nanoClock.getAsLong();
+        acquire.record(now - exchange.startedAt, TimeUnit.NANOSECONDS);
+        exchange.sentAt = now;
+        exchange.sent = true;
+    }
+
+    void answered(Exchange exchange) {
+        if (exchange.sent) {
+            upstreamWait.record(nanoClock.getAsLong() - exchange.sentAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static Timer stage(MeterRegistry registry, String stage) {
+        return Timer.builder(METRIC)
+                .description("Time spent in one stage of a call to the employee API")
+                .tag("stage", stage)
+                .register(registry);
+    }
+
+    static Optional<Exchange> exchange(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * Clock readings of one exchange; written and read on the event loop of its connection.
+     */
+    static final class Exchange {
+        final long startedAt;
+        volatile long sentAt;
+        volatile boolean sent;
+
+        Exchange(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
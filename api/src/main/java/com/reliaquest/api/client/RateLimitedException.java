@@ -0,0 +1,21 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Raised by {@link AdaptiveRateLimiter} when a request is shed locally because the upstream budget would
+ * not allow it within {@code employee.client.rate-limit.max-queue-wait}. The request never left this process.
+ */
+public class RateLimitedException extends RuntimeException {
+
+    private final Duration expectedWait;
+
+    public RateLimitedException(Duration expectedWait) {
+        super("Employee API rate limit: request shed, next permit in " + expectedWait.toMillis() + "ms");
+        this.expectedWait = expectedWait;
+    }
+
+    public Duration getExpectedWait() {
+        return expectedWait;
+    }
+}
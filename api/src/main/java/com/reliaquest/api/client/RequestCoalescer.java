@@ -0,0 +1,161 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Collapses concurrent identical lookups into one upstream call.
+ * <ul>
+ *   <li>in flight – callers asking for a key that is already being loaded join that load</li>
+ *   <li>recent – a loaded value is kept for {@code ttl} so that bursts right after a load are served
+ *       from memory; a zero ttl disables this and only shares in-flight loads</li>
+ * </ul>
+ * Only values are remembered: empty results and errors are handed to the callers that waited on the
+ * load but never cached. Metrics: {@code <name>.requests{result=upstream|joined|recent}} and the gauge
+ * {@code <name>.ratio}, the share of requests that did not reach the upstream.
+ *
+ * @param <K> lookup key
+ * @param <V> looked up value
+ */
+public class RequestCoalescer<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, Recent<V>> recent = new ConcurrentHashMap<>();
+    // bumped by invalidateIf(); a load started before the bump must not remember its value
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter upstream;
+    private final Counter joined;
+    private final Counter recentHits;
+
+    public RequestCoalescer(String name, Duration ttl, int maxEntries, MeterRegistry meterRegistry) {
+        this(name, ttl, maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    RequestCoalescer(String name, Duration ttl, int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.upstream = requests(meterRegistry, name, "upstream");
+        this.joined = requests(meterRegistry, name, "joined");
+        this.recentHits = requests(meterRegistry, name, "recent");
+        Gauge.builder(name + ".ratio", this, RequestCoalescer::coalescingRatio)
+                .description("Share of lookups answered without an upstream call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader performs the upstream call for a key; subscribed at most once per concurrent burst
+     */
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Recent<V> cached = recent.get(key);
+            if (cached != null) {
+                if (cached.expiresAt.isAfter(clock.instant())) {
+                    recentHits.increment();
+                    return Mono.just(cached.value);
+                }
+                recent.remove(key, cached);
+            }
+
+            CompletableFuture<V> promise = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+            if (existing != null) {
+                joined.increment();
+                return Mono.fromFuture(existing, true);
+            }
+            upstream.increment();
+            load(key, loader, promise);
+            // suppressCancel: one caller going away must not cancel the load others are waiting on
+            return Mono.fromFuture(promise, true);
+        });
+    }
+
+    /**
+     * Forgets remembered values matching {@code predicate}, e.g. after the entity was deleted. Loads in
+     * flight may already have read the old value: their callers still get it, but it is not remembered
+     * and later callers do not join them.
+     */
+    public void invalidateIf(Predicate<V> predicate) {
+        generation.incrementAndGet();
+        inFlight.clear();
+        recent.values().removeIf(entry -> predicate.test(entry.value));
+    }
+
+    private void load(K key, Function<K, Mono<V>> loader, CompletableFuture<V> promise) {
+        long startedAt = generation.get();
+        Mono<V> call;
+        try {
+            call = loader.apply(key);
+        } catch (RuntimeException ex) {
+            call = Mono.error(ex);
+        }
+        call.subscribe(
+                value -> {
+                    if (generation.get() == startedAt) {
+                        remember(key, value);
+                    }
+                    inFlight.remove(key, promise);
+                    promise.complete(value);
+                },
+                error -> {
+                    inFlight.remove(key, promise);
+                    promise.completeExceptionally(error);
+                },
+                () -> {
+                    if (!promise.isDone()) {
+                        inFlight.remove(key, promise);
+                        promise.complete(null); // empty
+                    }
+                });
+    }
+
+    private void remember(K key, V value) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (recent.size() >= maxEntries) {
+            recent.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+            if (recent.size() >= maxEntries) {
+                log.debug("Coalescer full ({} entries), dropping remembered values", recent.size());
+                recent.clear();
+            }
+        }
+        recent.put(key, new Recent<>(value, now.plus(ttl)));
+    }
+
+    double coalescingRatio() {
+        double total = upstream.count() + joined.count() + recentHits.count();
+        return total == 0 ? 0 : (joined.count() + recentHits.count()) / total;
+    }
+
+    private record Recent<V>(V value, Instant expiresAt) {
+    }
+
+    private static Counter requests(MeterRegistry registry, String name, String result) {
+        return Counter.builder(name + ".requests")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,213 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hedged requests for idempotent reads: if a request has not answered after the {@code percentile} of the
+ * recent latencies of its operation, the same request is sent once more and whichever answers first wins;
+ * the other one is cancelled. Until {@code min-samples} latencies are known the delay is {@code initial-delay},
+ * never less than {@code min-delay}.
+ * <p>
+ * Hedges are paid from a budget so that they cannot multiply the load on an upstream that is slow for
+ * everyone: each request earns {@code budget-ratio} tokens (at most {@code max-tokens} are kept), each hedge
+ * spends one. With a ratio of 0.05 at most one request in twenty is hedged.
+ * <p>
+ * Hedging targets slow answers, not failures: an error of the original request is passed on as is, a failed
+ * hedge is ignored.
+ * <p>
+ * Metrics: {@code employee.client.hedging.requests{operation, outcome=sent|won|denied}}; {@code denied}
+ * counts hedges skipped for lack of budget.
+ */
+@Component
+public class RequestHedger {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestHedger.class);
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+    private final int minSamples;
+    private final int window;
+    private final double budgetRatio;
+    private final double maxTokens;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private double tokens;
+
+    public RequestHedger(
+            MeterRegistry meterRegistry,
+            @Value("${employee.client.hedging.enabled:false}") boolean enabled,
+            @Value("${employee.client.hedging.percentile:0.95}") double percentile,
+            @Value("${employee.client.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${employee.client.hedging.initial-delay:250ms}") Duration initialDelay,
+            @Value("${employee.client.hedging.min-samples:50}") int minSamples,
+            @Value("${employee.client.hedging.window:1000}") int window,
+            @Value("${employee.client.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${employee.client.hedging.max-tokens:10}") double maxTokens) {
+        this(meterRegistry, enabled, percentile, minDelay, initialDelay, minSamples, window, budgetRatio, maxTokens,
+                System::nanoTime);
+    }
+
+    RequestHedger(
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            double percentile,
+            Duration minDelay,
+            Duration initialDelay,
+            int minSamples,
+            int window,
+            double budgetRatio,
+            double maxTokens,
+            LongSupplier nanoClock) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("employee.client.hedging.percentile must be in (0, 1): " + percentile);
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minSamples = Math.min(minSamples, window);
+        this.window = window;
+        this.budgetRatio = budgetRatio;
+        this.maxTokens = maxTokens;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        log.info("Request hedging enabled={} percentile={} minDelay={} initialDelay={} budgetRatio={} maxTokens={}",
+                enabled, percentile, minDelay, initialDelay, budgetRatio, maxTokens);
+    }
+
+    /**
+     * A hedger that passes every request through unchanged; for tests and benchmarks outside of Spring.
+     */
+    public static RequestHedger disabled(MeterRegistry meterRegistry) {
+        return new RequestHedger(meterRegistry, false, 0.95, Duration.ZERO, Duration.ZERO, 1, 1, 0, 0,
+                System::nanoTime);
+    }
+
+    /**
+     * @param request a cold request: every subscription sends it anew
+     * @return the answer of {@code request}, or of its hedge if that answers first.
+     */
+    public <T> Mono<T> hedge(String operation, Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+        Operation op = operations.computeIfAbsent(operation, Operation::new);
+        return Mono.defer(() -> {
+            earn();
+            Mono<T> primary = op.timed(request);
+            Mono<T> hedge = Mono.delay(Duration.ofNanos(op.delayNanos())).flatMap(tick -> {
+                if (!spend()) {
+                    op.denied.increment();
+                    return Mono.never();
+                }
+                op.sent.increment();
+                log.debug("Hedging {} after {}ms", operation, op.delayNanos() / 1_000_000);
+                return op.timed(request)
+                        .doOnNext(answer -> op.won.increment())
+                        .onErrorResume(ex -> Mono.never());
+            });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /**
+     * @return the current hedging delay of {@code operation}.
+     */
+    Duration delay(String operation) {
+        Operation op = operations.get(operation);
+        return Duration.ofNanos(op == null ? Math.max(minDelayNanos, initialDelayNanos) : op.delayNanos());
+    }
+
+    private synchronized void earn() {
+        tokens = Math.min(maxTokens, tokens + budgetRatio);
+    }
+
+    private synchronized boolean spend() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Latencies of the last {@code window} answered or cancelled requests of one operation, and the hedging
+     * delay derived from them (recomputed every {@link #RECOMPUTE_EVERY} samples).
+     */
+    private final class Operation {
+        private final long[] samples = new long[window];
+        private int next;
+        private int count;
+        private volatile long delayNanos = Math.max(minDelayNanos, initialDelayNanos);
+
+        private final Counter sent;
+        private final Counter won;
+        private final Counter denied;
+
+        Operation(String name) {
+            this.sent = hedges(name, "sent");
+            this.won = hedges(name, "won");
+            this.denied = hedges(name, "denied");
+        }
+
+        long delayNanos() {
+            return delayNanos;
+        }
+
+        /**
+         * Records the latency of an answer, or the time an attempt had been waiting when it was cancelled
+         * (the losing request of a hedged pair, a caller giving up), so that the samples are not biased towards
+         * the fast answers that happen to win.
+         */
+        <T> Mono<T> timed(Mono<T> request) {
+            return Mono.defer(() -> {
+                long start = nanoClock.getAsLong();
+                AtomicBoolean recorded = new AtomicBoolean();
+                Runnable elapsed = () -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        record(nanoClock.getAsLong() - start);
+                    }
+                };
+                return request.doOnNext(answer -> elapsed.run()).doOnCancel(elapsed);
+            });
+        }
+
+        private synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (count >= minSamples && next % RECOMPUTE_EVERY == 0) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int rank = (int) Math.ceil(percentile * count) - 1;
+                delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, rank)]);
+            }
+        }
+
+        private Counter hedges(String name, String outcome) {
+            return Counter.builder("employee.client.hedging.requests")
+                    .tag("operation", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
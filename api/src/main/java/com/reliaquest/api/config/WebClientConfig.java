@@ -1,18 +1,27 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.ExchangeStageTimer;
 import io.netty.channel.ChannelOption;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * EmployeeApiClient depends on this bean named employeeWebClient.
@@ -24,18 +33,80 @@ public class WebClientConfig {
 
     private static final Logger log = LoggerFactory.getLogger(WebClientConfig.class);
 
+    /**
+     * Dedicated connection pool for the mock server. Pool gauges ({@code reactor.netty.connection.provider.*}:
+     * active, idle, pending connections, max sizes) are registered in Micrometer's global registry; they reach
+     * the actuator because Spring Boot adds its registry to {@code Metrics.globalRegistry}.
+     */
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider employeeConnectionProvider(
+            @Value("${employee.client.pool.max-connections:50}") int maxConnections,
+            @Value("${employee.client.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${employee.client.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${employee.client.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.client.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${employee.client.pool.evict-in-background:30s}") Duration evictInBackground,
+            @Value("${employee.client.pool.metrics:true}") boolean metrics) {
+        log.info("Employee API connection pool maxConnections={} pendingAcquireMaxCount={} pendingAcquireTimeout={} "
+                        + "maxIdleTime={} maxLifeTime={} evictInBackground={}",
+                maxConnections, pendingAcquireMaxCount, pendingAcquireTimeout, maxIdleTime, maxLifeTime,
+                evictInBackground);
+        return ConnectionProvider.builder("employee-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(metrics)
+                .build();
+    }
+
     @Bean
     WebClient employeeWebClient(
-            @Value("${employee.mock.base-url:http://localhost:8112/api/v1/employee}") String baseUrl) {
-        HttpClient http = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2_000)
-                .responseTimeout(Duration.ofSeconds(3));
+            @Value("${employee.mock.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
+            @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.client.response-timeout:3s}") Duration responseTimeout,
+            // HTTP11, H2C (prior knowledge) or H2C,HTTP11 (HTTP/1.1 upgrade to h2c)
+            @Value("${employee.client.protocols:HTTP11}") HttpProtocol[] protocols,
+            @Value("${employee.client.compression:true}") boolean compression,
+            @Value("${employee.client.payload-format:json}") String payloadFormat,
+            @Value("${employee.client.max-in-memory-size:64MB}") DataSize maxInMemorySize,
+            ConnectionProvider employeeConnectionProvider,
+            AdaptiveRateLimiter rateLimiter,
+            ExchangeStageTimer stageTimer) {
+        HttpClient http = HttpClient.create(employeeConnectionProvider)
+                .protocol(protocols)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout)
+                // Accept-Encoding: gzip and transparent decompression
+                .compress(compression);
+        http = stageTimer.instrument(http);
+        List<MediaType> accept = switch (payloadFormat) {
+            case "json" -> List.of(MediaType.APPLICATION_JSON);
+            case "cbor" -> List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON);
+            default -> throw new IllegalArgumentException(
+                    "employee.client.payload-format must be json or cbor: " + payloadFormat);
+        };
+        log.info("Employee API client baseUrl={} protocols={} compression={} payloadFormat={}",
+                baseUrl, Arrays.toString(protocols), compression, payloadFormat);
 
         return WebClient.builder()
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(http))
+                // requests that do not ask for a media type themselves (all but the NDJSON stream)
+                .defaultHeaders(headers -> headers.setAccept(accept))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize(Math.toIntExact(maxInMemorySize.toBytes()));
+                    // decoder only: request bodies stay JSON
+                    codecs.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder());
+                })
                 .filter(logRequest())
                 .filter(logResponse())
+                // so that requests it delays or re-sends after a 429 are logged one by one
+                .filter(rateLimiter)
+                // innermost, so that a wait for a rate limit permit does not count as connection acquire
+                .filter(stageTimer)
                 .build();
     }
 
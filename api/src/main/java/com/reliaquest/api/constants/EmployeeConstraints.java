@@ -11,6 +11,12 @@ public final class EmployeeConstraints {
     public static final int MIN_AGE = 16;
     public static final int MAX_AGE = 75;
     public static final int MIN_SALARY = 1;
+    /** Maximum number of ids in one {@link com.reliaquest.api.model.EmployeeIdsRequest}. */
+    public static final int MAX_BATCH_IDS = 10_000;
+    /** Maximum number of employees in one bulk create or delete request. */
+    public static final int MAX_BULK_ITEMS = 10_000;
+    /** Largest page of {@code GET /page} the mock server serves. */
+    public static final int MAX_PAGE_SIZE = 1000;
 
     private EmployeeConstraints() {
     }
@@ -1,12 +1,22 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.client.RateLimitedException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @RestControllerAdvice
 public class ApiExceptionHandler {
@@ -15,13 +25,71 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
-        var fieldErrors = ex.getBindingResult().getFieldErrors().stream()
-                .map(err -> Map.of(
-                        "field", err.getField(),
-                        "message", err.getDefaultMessage()))
-                .toList();
-        log.warn("400: validation failed {} error(s): {}", fieldErrors.size(), fieldErrors);
-        return ResponseEntity.badRequest().body(Map.of("error", "Validation failed", "details", fieldErrors));
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Same as {@link #handleValidation(MethodArgumentNotValidException)} when running on WebFlux.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleReactiveValidation(WebExchangeBindException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * The mock server rejected parameters passed through unchanged, e.g. an invalid page cursor.
+     */
+    @ExceptionHandler(WebClientResponseException.BadRequest.class)
+    public ResponseEntity<Map<String, String>> upstreamBadRequest(WebClientResponseException.BadRequest ex) {
+        log.warn("400: rejected by employee server: {}", ex.getResponseBodyAsString());
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid request parameters"));
+    }
+
+    /**
+     * The client-side rate limiter shed the upstream call; pass its expected wait on to our caller.
+     */
+    @ExceptionHandler(RateLimitedException.class)
+    public ResponseEntity<Map<String, String>> rateLimited(RateLimitedException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getExpectedWait().toMillis() + 999) / 1000);
+        log.warn("429: {}", ex.getMessage());
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(Map.of("error", "Employee server is rate limiting, retry later"));
+    }
+
+    /**
+     * The circuit breaker of the upstream operation is open, its bulkhead is full, or the employee server
+     * could not be reached or answered too late - and there was no last known good data recent enough to
+     * answer with instead.
+     */
+    @ExceptionHandler({
+        CallNotPermittedException.class,
+        BulkheadFullException.class,
+        WebClientRequestException.class,
+        TimeoutException.class
+    })
+    public ResponseEntity<Map<String, String>> upstreamUnavailable(Exception ex) {
+        log.warn("503: {}", ex.getMessage());
+        return ResponseEntity.status(503).body(Map.of("error", "Employee server is unavailable, retry later"));
+    }
+
+    /**
+     * The employee server answered with an error status: a 5xx means it is unavailable (see
+     * {@link #upstreamUnavailable(Exception)}), a 4xx is about the request and is passed on as is, together
+     * with its {@code Retry-After}.
+     */
+    @ExceptionHandler(WebClientResponseException.class)
+    public ResponseEntity<Map<String, String>> upstreamError(WebClientResponseException ex) {
+        if (!ex.getStatusCode().is4xxClientError()) {
+            return upstreamUnavailable(ex);
+        }
+        log.warn("{}: rejected by employee server: {}", ex.getStatusCode().value(), ex.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatusCode());
+        String retryAfter = ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            response.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return response.body(Map.of("error", "Rejected by employee server"));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -34,6 +102,16 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(409).body(Map.of("error", ex.getMessage()));
     }
 
+    private static ResponseEntity<Map<String, Object>> validationFailed(BindingResult bindingResult) {
+        var fieldErrors = bindingResult.getFieldErrors().stream()
+                .map(err -> Map.of(
+                        "field", err.getField(),
+                        "message", err.getDefaultMessage()))
+                .toList();
+        log.warn("400: validation failed {} error(s): {}", fieldErrors.size(), fieldErrors);
+        return ResponseEntity.badRequest().body(Map.of("error", "Validation failed", "details", fieldErrors));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> uncaught(Exception ex) {
         log.error("500: Uncaught exception", ex);
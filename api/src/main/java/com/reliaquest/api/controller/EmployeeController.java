@@ -1,38 +1,67 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.Served;
+import com.reliaquest.api.constants.EmployeeConstraints;
+import com.reliaquest.api.model.BulkCreateEmployeesRequest;
+import com.reliaquest.api.model.BulkItemResult;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeeIdsRequest;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.service.EmployeeService;
 
 import java.util.List;
+import java.util.Map;
 
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Blocking (servlet) implementation of the employee endpoints; the default {@code employee.api.mode}.
+ *
+ * @see ReactiveEmployeeController
+ */
 @RestController
 @RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeRequest> {
 
+    /**
+     * Set on responses answered from the last known good snapshot while the employee server is unavailable:
+     * the age of that data in whole seconds.
+     */
+    public static final String STALENESS_HEADER = "X-Data-Staleness";
+
     private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
     private final EmployeeService service;
+    private final int topEarnersLimit;
 
-    public EmployeeController(EmployeeService service) {
+    public EmployeeController(
+            EmployeeService service, @Value("${employee.index.top-k-capacity:100}") int topEarnersLimit) {
         this.service = service;
+        this.topEarnersLimit = topEarnersLimit;
     }
 
     /**
-     * @return A list of all employees, or an empty list if none are found or an error occurs.
+     * @return A list of all employees, or an empty list if none are found; 503 if the employee server is
+     *         unavailable and no recent enough data is known, see {@link #STALENESS_HEADER}.
      */
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("Controller: GET /employees");
-        return ResponseEntity.ok(service.getAllEmployees());
+        return ok(service.getAllEmployees());
     }
 
     /**
@@ -42,7 +71,49 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.info("Controller: GET /employees/search/{}", searchString);
-        return ResponseEntity.ok(service.searchByName(searchString));
+        return ok(service.searchByName(searchString));
+    }
+
+    /**
+     * Paged variant of {@link #getEmployeesByNameSearch(String)}.
+     *
+     * @param name   name fragment, matched case-insensitively
+     * @param offset number of matches to skip
+     * @param limit  maximum number of matches to return
+     * @return A page of employees matching name, or 400 if offset/limit are out of range.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Employee>> searchEmployeesByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.info("Controller: GET /employees/search?name={}&offset={}&limit={}", name, offset, limit);
+        if (offset < 0 || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ok(service.searchByName(name, offset, limit));
+    }
+
+    /**
+     * Cursor-paged listing, filtered by the mock server.
+     *
+     * @param size   page size, 1 to {@link EmployeeConstraints#MAX_PAGE_SIZE}
+     * @param cursor {@code nextCursor} of the previous page; omit for the first page
+     * @param filter optional {@code name}, {@code minSalary}, {@code maxSalary}, {@code minAge}, {@code maxAge}
+     *               and {@code title} query parameters; pass the same values for every page
+     * @return A page of employees, or 400 if size or cursor are invalid; an oversized page is rejected here
+     *         so that it never reaches the mock server and counts against its circuit breaker.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor,
+            EmployeeFilter filter) {
+        log.info("Controller: GET /employees/page?size={}&cursor={} filter={}", size, cursor, filter);
+        if (size < 1 || size > EmployeeConstraints.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getPage(filter, size, cursor));
     }
 
     /**
@@ -53,7 +124,19 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         log.info("Controller: GET /employees/{}", id);
         var e = service.getById(id);
-        return e == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(e);
+        return e.value() == null ? ResponseEntity.notFound().build() : ok(e);
+    }
+
+    /**
+     * Batch variant of {@link #getEmployeeById(String)}.
+     *
+     * @param request ids to look up; duplicates and malformed ids are ignored
+     * @return the employees found, keyed by id; unknown ids are left out.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Employee>> getEmployeesByIds(@Valid @RequestBody EmployeeIdsRequest request) {
+        log.info("Controller: POST /employees/batch count={}", request.getIds().size());
+        return ResponseEntity.ok(service.getByIds(request.getIds()));
     }
 
     /**
@@ -62,7 +145,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("Controller: GET /employees/highestSalary");
-        return ResponseEntity.ok(service.getHighestSalaryOfEmployees());
+        return ok(service.getHighestSalaryOfEmployees());
     }
 
     /**
@@ -71,7 +154,23 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("Controller: GET /employees/topTenHighestEarningEmployeeNames");
-        return ResponseEntity.ok(service.top10NamesBySalary());
+        return ok(service.top10NamesBySalary());
+    }
+
+    /**
+     * Generic variant of {@link #getTopTenHighestEarningEmployeeNames()}.
+     *
+     * @param k number of employees wanted, 0 to {@code employee.index.top-k-capacity} (100 by default): the
+     *          index only ranks that many
+     * @return the k highest earning employees, highest first, or 400 if k is out of range.
+     */
+    @GetMapping("/topEarners")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(defaultValue = "10") int k) {
+        log.info("Controller: GET /employees/topEarners?k={}", k);
+        if (k < 0 || k > topEarnersLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ok(service.topEarners(k));
     }
 
     /**
@@ -84,6 +183,30 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         return ResponseEntity.ok(service.create(employeeInput));
     }
 
+    /**
+     * Bulk variant of {@link #createEmployee(CreateEmployeeRequest)}.
+     *
+     * @return one result per requested employee, in request order; failures do not abort the other items.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult>> createEmployees(
+            @Valid @RequestBody BulkCreateEmployeesRequest request) {
+        log.info("Controller: POST /employees/bulk count={}", request.getEmployees().size());
+        return ResponseEntity.ok(service.createAll(request.getEmployees()));
+    }
+
+    /**
+     * Bulk variant of {@link #deleteEmployeeById(String)}.
+     *
+     * @return one result per requested id, in request order; failures do not abort the other items.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResult>> deleteEmployeesByIds(
+            @Valid @RequestBody EmployeeIdsRequest request) {
+        log.info("Controller: POST /employees/bulk/delete count={}", request.getIds().size());
+        return ResponseEntity.ok(service.deleteAll(request.getIds()));
+    }
+
     /**
      * @param id
      * @return The name of the deleted employee, if the deletion was successful.
@@ -95,4 +218,15 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         log.info("Controller: DELETE /employees/{}", id);
         return ResponseEntity.ok(service.deleteById(id));
     }
+
+    /**
+     * @return 200 with the served value, and the {@link #STALENESS_HEADER} if it was served stale.
+     */
+    static <T> ResponseEntity<T> ok(Served<T> served) {
+        return served.staleness()
+                .map(age -> ResponseEntity.ok()
+                        .header(STALENESS_HEADER, Long.toString(age.toSeconds()))
+                        .body(served.value()))
+                .orElseGet(() -> ResponseEntity.ok(served.value()));
+    }
 }
@@ -0,0 +1,72 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeEvent;
+import com.reliaquest.api.service.EmployeeEventPublisher;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming variant of {@code GET /api/v1/employee}, selected with {@code Accept: application/x-ndjson}.
+ * Employees are written one JSON document per line as they become available instead of serializing
+ * the whole list into a single buffer. Active in both {@code employee.api.mode}s, on the servlet stack as well
+ * as on WebFlux ({@code spring.main.web-application-type=reactive}).
+ * <p>
+ * {@code GET /api/v1/employee/events} pushes creates and deletes as Server-Sent Events, with a
+ * keep-alive comment every {@code employee.events.heartbeat} so idle connections are not cut by proxies.
+ * A stream ends after {@code employee.events.timeout}; the client reconnects with {@code Last-Event-ID}
+ * and is sent the events it missed. A client that goes away cancels its subscription, like a completed stream.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+public class EmployeeStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeStreamController.class);
+    private final ReactiveEmployeeService service;
+    private final EmployeeEventPublisher events;
+    private final Duration heartbeat;
+    private final Duration timeout;
+
+    public EmployeeStreamController(
+            ReactiveEmployeeService service,
+            EmployeeEventPublisher events,
+            @Value("${employee.events.heartbeat:15s}") Duration heartbeat,
+            @Value("${employee.events.timeout:30m}") Duration timeout) {
+        this.service = service;
+        this.events = events;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        log.info("Controller: GET /employees (ndjson)");
+        return service.streamAllEmployees();
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EmployeeEvent>> streamEvents(
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("Controller: GET /employees/events (sse) lastEventId={}", lastEventId);
+        Flux<ServerSentEvent<EmployeeEvent>> changes = events.events(lastEventId)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(Long.toString(event.getSequence()))
+                        .event(event.getType().name())
+                        .build());
+        Flux<ServerSentEvent<EmployeeEvent>> keepAlive = events.heartbeat(heartbeat)
+                .map(tick -> ServerSentEvent.<EmployeeEvent>builder().comment("keep-alive").build());
+        return Flux.merge(changes, keepAlive).take(timeout);
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.constants.EmployeeConstraints;
+import com.reliaquest.api.model.BulkCreateEmployeesRequest;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeeIdsRequest;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking implementation of the employee endpoints, active with {@code employee.api.mode=reactive}
+ * (replaces {@link EmployeeController}).
+ * <p>
+ * On the default servlet stack the handler returns as soon as the {@link Mono} is assembled and the
+ * response is written asynchronously, so a Tomcat worker is not held while the upstream call is in
+ * flight. With {@code spring.main.web-application-type=reactive} the same controller runs on WebFlux/Netty.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+public class ReactiveEmployeeController implements IReactiveEmployeeController<Employee, CreateEmployeeRequest> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+    private final ReactiveEmployeeService service;
+    private final int topEarnersLimit;
+
+    public ReactiveEmployeeController(
+            ReactiveEmployeeService service, @Value("${employee.index.top-k-capacity:100}") int topEarnersLimit) {
+        this.service = service;
+        this.topEarnersLimit = topEarnersLimit;
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("Reactive controller: GET /employees");
+        return service.getAllEmployees().map(EmployeeController::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("Reactive controller: GET /employees/search/{}", searchString);
+        return service.searchByName(searchString, 0, Integer.MAX_VALUE).map(EmployeeController::ok);
+    }
+
+    /**
+     * @see EmployeeController#searchEmployeesByName(String, int, int)
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<Employee>>> searchEmployeesByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.info("Reactive controller: GET /employees/search?name={}&offset={}&limit={}", name, offset, limit);
+        if (offset < 0 || limit < 1) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return service.searchByName(name, offset, limit).map(EmployeeController::ok);
+    }
+
+    /**
+     * @see EmployeeController#getEmployeePage(int, String, EmployeeFilter)
+     */
+    @GetMapping("/page")
+    public Mono<ResponseEntity<EmployeePage>> getEmployeePage(
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor,
+            EmployeeFilter filter) {
+        log.info("Reactive controller: GET /employees/page?size={}&cursor={} filter={}", size, cursor, filter);
+        if (size < 1 || size > EmployeeConstraints.MAX_PAGE_SIZE) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return service.getPage(filter, size, cursor).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("Reactive controller: GET /employees/{}", id);
+        return service.getById(id)
+                .map(EmployeeController::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * @see EmployeeController#getEmployeesByIds(EmployeeIdsRequest)
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Map<String, Employee>>> getEmployeesByIds(
+            @Valid @RequestBody EmployeeIdsRequest request) {
+        log.info("Reactive controller: POST /employees/batch count={}", request.getIds().size());
+        return service.getByIds(request.getIds()).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Reactive controller: GET /employees/highestSalary");
+        return service.getHighestSalaryOfEmployees().map(EmployeeController::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Reactive controller: GET /employees/topTenHighestEarningEmployeeNames");
+        return service.top10NamesBySalary().map(EmployeeController::ok);
+    }
+
+    /**
+     * @see EmployeeController#getTopEarners(int)
+     */
+    @GetMapping("/topEarners")
+    public Mono<ResponseEntity<List<Employee>>> getTopEarners(@RequestParam(defaultValue = "10") int k) {
+        log.info("Reactive controller: GET /employees/topEarners?k={}", k);
+        if (k < 0 || k > topEarnersLimit) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return service.topEarners(k).map(EmployeeController::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Employee>> createEmployee(@Valid @RequestBody CreateEmployeeRequest employeeInput) {
+        log.info("Reactive controller: POST /employees name={}", employeeInput.getName());
+        return service.create(employeeInput).map(ResponseEntity::ok);
+    }
+
+    /**
+     * @see EmployeeController#createEmployees(BulkCreateEmployeesRequest)
+     */
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<List<BulkItemResult>>> createEmployees(
+            @Valid @RequestBody BulkCreateEmployeesRequest request) {
+        log.info("Reactive controller: POST /employees/bulk count={}", request.getEmployees().size());
+        return service.createAll(request.getEmployees()).map(ResponseEntity::ok);
+    }
+
+    /**
+     * @see EmployeeController#deleteEmployeesByIds(EmployeeIdsRequest)
+     */
+    @PostMapping("/bulk/delete")
+    public Mono<ResponseEntity<List<BulkItemResult>>> deleteEmployeesByIds(
+            @Valid @RequestBody EmployeeIdsRequest request) {
+        log.info("Reactive controller: POST /employees/bulk/delete count={}", request.getIds().size());
+        return service.deleteAll(request.getIds()).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("Reactive controller: DELETE /employees/{}", id);
+        return service.deleteById(id).map(ResponseEntity::ok);
+    }
+}
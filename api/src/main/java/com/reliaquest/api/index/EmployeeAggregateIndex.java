@@ -0,0 +1,122 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotListener;
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary aggregates over the current employee snapshot: the highest salary and the top-K earners.
+ * <p>
+ * Rebuilt once per snapshot in O(n log K) with a bounded min-heap and updated incrementally on
+ * create/delete, so that reads are O(1) for the highest salary and O(K) for the top earners.
+ * Ordering matches a stable sort by salary descending: employees with equal salaries keep their
+ * upstream order. Employees without a salary are not ranked.
+ */
+@Component
+public class EmployeeAggregateIndex implements EmployeeSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAggregateIndex.class);
+
+    private final int capacity;
+
+    // sorted by salary descending, at most `capacity` entries; replaced wholesale, never mutated
+    private volatile List<Employee> topEarners = List.of();
+
+    public EmployeeAggregateIndex(@Value("${employee.index.top-k-capacity:100}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("employee.index.top-k-capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the largest {@code k} accepted by {@link #topEarners(int)}.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return highest salary among all employees, or 0 if there are none.
+     */
+    public int highestSalary() {
+        List<Employee> top = topEarners;
+        return top.isEmpty() ? 0 : top.get(0).getSalary();
+    }
+
+    /**
+     * @param k number of employees wanted, clamped to [0, {@link #capacity()}]
+     * @return the {@code k} highest earning employees, highest first.
+     */
+    public List<Employee> topEarners(int k) {
+        List<Employee> top = topEarners;
+        return top.subList(0, Math.max(0, Math.min(k, top.size())));
+    }
+
+    @Override
+    public void onSnapshot(EmployeeSnapshot snapshot) {
+        topEarners = build(snapshot.employees(), capacity);
+        log.debug("Aggregate index rebuilt size={} highestSalary={}", snapshot.employees().size(), highestSalary());
+    }
+
+    @Override
+    public void onCreated(EmployeeSnapshot snapshot, Employee created) {
+        if (created.getSalary() == null) {
+            return;
+        }
+        List<Employee> top = topEarners;
+        if (top.size() == capacity && created.getSalary() <= top.get(top.size() - 1).getSalary()) {
+            return;
+        }
+        // new employees are appended upstream, so they rank after everyone with the same salary
+        int position = 0;
+        while (position < top.size() && top.get(position).getSalary() >= created.getSalary()) {
+            position++;
+        }
+        List<Employee> updated = new ArrayList<>(top.size() + 1);
+        updated.addAll(top.subList(0, position));
+        updated.add(created);
+        updated.addAll(top.subList(position, Math.min(top.size(), capacity - 1)));
+        topEarners = List.copyOf(updated);
+    }
+
+    @Override
+    public void onDeleted(EmployeeSnapshot snapshot, Employee deleted) {
+        boolean ranked = topEarners.stream().anyMatch(e -> Objects.equals(e.getId(), deleted.getId()));
+        if (ranked) {
+            // the replacement could be anyone outside the top K, so fall back to a rebuild
+            onSnapshot(snapshot);
+        }
+    }
+
+    static List<Employee> build(List<Employee> employees, int capacity) {
+        // min-heap on (salary asc, position desc): the root is the weakest of the current top K
+        Comparator<Integer> weakestFirst = Comparator.<Integer>comparingInt(i -> employees.get(i).getSalary())
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> heap = new PriorityQueue<>(capacity + 1, weakestFirst);
+        for (int i = 0; i < employees.size(); i++) {
+            if (employees.get(i).getSalary() == null) {
+                continue;
+            }
+            heap.offer(i);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        }
+
+        List<Integer> positions = new ArrayList<>(heap);
+        positions.sort(weakestFirst.reversed());
+        return positions.stream().map(employees::get).toList();
+    }
+}
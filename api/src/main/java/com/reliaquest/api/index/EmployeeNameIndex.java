@@ -0,0 +1,248 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotListener;
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trigram index over employee names answering case-insensitive "name contains fragment" queries
+ * without scanning the whole snapshot.
+ * <p>
+ * Every lower-cased name is split into its 3-character substrings; each trigram maps to the sorted
+ * positions of the names containing it. A query walks the shortest posting list of the fragment's
+ * trigrams, checks membership in the others by binary search and confirms the candidate with
+ * {@link String#contains}, so results are exactly those of the linear scan, in snapshot order.
+ * Fragments shorter than three characters fall back to a scan over the pre-lower-cased names.
+ * <p>
+ * The index is rebuilt once per snapshot. Creates and deletes are kept in a small delta next to the
+ * base index and folded into a rebuild once the delta exceeds {@code employee.index.name-delta-limit}.
+ * All state is immutable and swapped atomically, so queries never lock.
+ */
+@Component
+public class EmployeeNameIndex implements EmployeeSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeNameIndex.class);
+
+    private final int deltaLimit;
+
+    private volatile State state = new State(Base.build(List.of()), List.of(), Set.of());
+
+    public EmployeeNameIndex(@Value("${employee.index.name-delta-limit:1024}") int deltaLimit) {
+        this.deltaLimit = deltaLimit;
+    }
+
+    /**
+     * @param fragment name fragment, matched case-insensitively; {@code null} matches every named employee
+     * @param offset   number of matches to skip
+     * @param limit    maximum number of matches to return
+     * @return matching employees in snapshot order.
+     */
+    public List<Employee> search(String fragment, int offset, int limit) {
+        String f = fragment == null ? "" : fragment.toLowerCase(Locale.ROOT);
+        Collector collector = new Collector(offset, limit);
+        State s = state;
+        s.base.search(f, s.deletedIds, collector);
+        for (Entry entry : s.added) {
+            if (collector.isFull()) {
+                break;
+            }
+            if (entry.lowerName != null && entry.lowerName.contains(f)) {
+                collector.accept(entry.employee);
+            }
+        }
+        return collector.results;
+    }
+
+    @Override
+    public void onSnapshot(EmployeeSnapshot snapshot) {
+        state = new State(Base.build(snapshot.employees()), List.of(), Set.of());
+        log.debug("Name index rebuilt size={} trigrams={}", snapshot.employees().size(), state.base.postings.size());
+    }
+
+    @Override
+    public void onCreated(EmployeeSnapshot snapshot, Employee created) {
+        State s = state;
+        if (s.added.size() + s.deletedIds.size() >= deltaLimit) {
+            onSnapshot(snapshot);
+            return;
+        }
+        List<Entry> added = new ArrayList<>(s.added.size() + 1);
+        added.addAll(s.added);
+        added.add(new Entry(created));
+        state = new State(s.base, List.copyOf(added), s.deletedIds);
+    }
+
+    @Override
+    public void onDeleted(EmployeeSnapshot snapshot, Employee deleted) {
+        State s = state;
+        if (deleted.getId() == null || s.added.size() + s.deletedIds.size() >= deltaLimit) {
+            onSnapshot(snapshot);
+            return;
+        }
+        List<Entry> added = s.added.stream()
+                .filter(entry -> !Objects.equals(entry.employee.getId(), deleted.getId()))
+                .toList();
+        Set<String> deletedIds = s.deletedIds;
+        if (added.size() == s.added.size()) {
+            Set<String> updated = new HashSet<>(deletedIds);
+            updated.add(deleted.getId());
+            deletedIds = Set.copyOf(updated);
+        }
+        state = new State(s.base, added, deletedIds);
+    }
+
+    private record State(Base base, List<Entry> added, Set<String> deletedIds) {
+    }
+
+    private record Entry(Employee employee, String lowerName) {
+        Entry(Employee employee) {
+            this(employee, EmployeeNameIndex.lowerName(employee));
+        }
+    }
+
+    /**
+     * Immutable trigram index over one snapshot.
+     */
+    private static final class Base {
+
+        private final Employee[] employees;
+        private final String[] lowerNames;
+        private final Map<Long, int[]> postings;
+
+        private Base(Employee[] employees, String[] lowerNames, Map<Long, int[]> postings) {
+            this.employees = employees;
+            this.lowerNames = lowerNames;
+            this.postings = postings;
+        }
+
+        static Base build(List<Employee> source) {
+            Employee[] employees = source.toArray(Employee[]::new);
+            String[] lowerNames = new String[employees.length];
+            Map<Long, IntList> building = new HashMap<>();
+            for (int i = 0; i < employees.length; i++) {
+                String name = lowerName(employees[i]);
+                lowerNames[i] = name;
+                if (name == null) {
+                    continue;
+                }
+                for (int j = 0; j + 3 <= name.length(); j++) {
+                    building.computeIfAbsent(trigram(name, j), k -> new IntList()).addIfNotLast(i);
+                }
+            }
+
+            Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+            building.forEach((key, positions) -> postings.put(key, positions.toArray()));
+            return new Base(employees, lowerNames, postings);
+        }
+
+        void search(String f, Set<String> deletedIds, Collector collector) {
+            if (f.length() < 3) {
+                for (int i = 0; i < lowerNames.length && !collector.isFull(); i++) {
+                    accept(i, f, deletedIds, collector);
+                }
+                return;
+            }
+
+            List<int[]> lists = new ArrayList<>(f.length() - 2);
+            for (int j = 0; j + 3 <= f.length(); j++) {
+                int[] positions = postings.get(trigram(f, j));
+                if (positions == null) {
+                    return;
+                }
+                lists.add(positions);
+            }
+            lists.sort(Comparator.comparingInt(positions -> positions.length));
+
+            int[] shortest = lists.get(0);
+            candidates:
+            for (int i = 0; i < shortest.length && !collector.isFull(); i++) {
+                int candidate = shortest[i];
+                for (int l = 1; l < lists.size(); l++) {
+                    if (Arrays.binarySearch(lists.get(l), candidate) < 0) {
+                        continue candidates;
+                    }
+                }
+                accept(candidate, f, deletedIds, collector);
+            }
+        }
+
+        private void accept(int i, String f, Set<String> deletedIds, Collector collector) {
+            if (lowerNames[i] != null
+                    && lowerNames[i].contains(f)
+                    && (deletedIds.isEmpty() || !deletedIds.contains(employees[i].getId()))) {
+                collector.accept(employees[i]);
+            }
+        }
+    }
+
+    /**
+     * Applies offset/limit while matches are produced so that queries stop as soon as the page is full.
+     */
+    private static final class Collector {
+
+        private final List<Employee> results = new ArrayList<>();
+        private final int limit;
+        private int toSkip;
+
+        Collector(int offset, int limit) {
+            this.toSkip = offset;
+            this.limit = limit;
+        }
+
+        boolean isFull() {
+            return results.size() >= limit;
+        }
+
+        void accept(Employee employee) {
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                results.add(employee);
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void addIfNotLast(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static String lowerName(Employee employee) {
+        return employee.getName() == null ? null : employee.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.constants.EmployeeConstraints;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body of {@code POST /api/v1/employee/bulk}. Every entry is validated like a single
+ * {@link CreateEmployeeRequest}; one invalid entry rejects the whole request before anything is created.
+ *
+ * @param employees employees to create, at most {@link EmployeeConstraints#MAX_BULK_ITEMS}
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BulkCreateEmployeesRequest {
+
+    @NotNull
+    @Size(min = 1, max = EmployeeConstraints.MAX_BULK_ITEMS)
+    private List<@Valid @NotNull CreateEmployeeRequest> employees;
+}
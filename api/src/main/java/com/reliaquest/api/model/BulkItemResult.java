@@ -0,0 +1,30 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one entry of a bulk create or delete, reported in request order.
+ *
+ * @param index  position of the entry in the request
+ * @param id     employee id: of the created employee, or the id asked to be deleted
+ * @param name   employee name, when known
+ * @param status outcome of the entry
+ * @param error  reason of a {@link Status#FAILED} entry
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    public enum Status { CREATED, DELETED, NOT_FOUND, FAILED }
+
+    private int index;
+    private String id;
+    private String name;
+    private Status status;
+    private String error;
+}
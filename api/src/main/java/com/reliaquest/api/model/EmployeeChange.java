@@ -0,0 +1,27 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One create or delete from the mock server's change feed ({@code GET /api/v1/employee/changes}).
+ *
+ * @param sequence the dataset version this change produced
+ * @param type     whether the employee was created or deleted
+ * @param employee the created employee, or the deleted one as it was stored
+ * @see EmployeeChanges
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+    private long sequence;
+    private Type type;
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A batch of the mock server's change feed.
+ *
+ * @param epoch   identifies the server's dataset; versions of different epochs are unrelated
+ * @param changes changes after the requested version, oldest first
+ * @param latest  version the feed is complete up to once {@code changes} have been applied
+ * @see EmployeeChange
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChanges {
+    private String epoch;
+    private List<EmployeeChange> changes;
+    private long latest;
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A create or delete pushed to subscribers of {@code GET /api/v1/employee/events}.
+ *
+ * @param sequence position of the event on this API instance, increasing by one per event
+ * @param type     whether the employee was created or deleted
+ * @param employee the created employee, or the deleted one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeEvent {
+    private long sequence;
+    private Type type;
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Server-side filters of the paged employee listing, bound from query parameters. Unset fields do not filter.
+ *
+ * @param name      case-insensitive name fragment
+ * @param minSalary inclusive lower salary bound
+ * @param maxSalary inclusive upper salary bound
+ * @param minAge    inclusive lower age bound
+ * @param maxAge    inclusive upper age bound
+ * @param title     case-insensitive title fragment
+ * @see EmployeePage
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class EmployeeFilter {
+    private String name;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+    private String title;
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.constants.EmployeeConstraints;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body of the batch lookup {@code POST /api/v1/employee/batch}.
+ *
+ * @param ids employee ids to look up, at most {@link EmployeeConstraints#MAX_BATCH_IDS}; duplicates and
+ *            ids that are not UUIDs are ignored
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class EmployeeIdsRequest {
+
+    @NotNull
+    @Size(max = EmployeeConstraints.MAX_BATCH_IDS)
+    private List<String> ids;
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the employee listing, as returned by the mock server's {@code GET /api/v1/employee/page}.
+ *
+ * @param employees  the employees of this page, in listing order
+ * @param nextCursor opaque token for the following page, {@code null} on the last page
+ * @see EmployeeFilter
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+    private List<Employee> employees;
+    private String nextCursor;
+}
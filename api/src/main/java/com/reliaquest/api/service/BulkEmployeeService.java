@@ -0,0 +1,123 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.BulkItemResult.Status;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bulk create and delete. Items are sent to the upstream with at most {@code employee.bulk.parallelism}
+ * calls in flight and the results are reported per item, in request order; one failing item does not
+ * abort the others. Calls go through the client's circuit breaker, so once it opens the remaining items
+ * fail fast instead of piling up on an unhealthy upstream.
+ * <p>
+ * Applied items are recorded in the snapshot cache and published as events on a worker thread, never on the
+ * WebClient's event loop: recording one locks the cache and runs its listeners, which may rebuild an index.
+ */
+@Service
+public class BulkEmployeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkEmployeeService.class);
+    private final EmployeeApiClient client;
+    private final EmployeeSnapshotCache cache;
+    private final EmployeeEventPublisher events;
+    private final int parallelism;
+
+    public BulkEmployeeService(
+            EmployeeApiClient client,
+            EmployeeSnapshotCache cache,
+            EmployeeEventPublisher events,
+            @Value("${employee.bulk.parallelism:8}") int parallelism) {
+        this.client = client;
+        this.cache = cache;
+        this.events = events;
+        this.parallelism = parallelism;
+    }
+
+    public Mono<List<BulkItemResult>> createAll(List<CreateEmployeeRequest> inputs) {
+        log.info("Bulk service: create count={} parallelism={}", inputs.size(), parallelism);
+        return Flux.range(0, inputs.size())
+                .flatMapSequential(index -> create(index, inputs.get(index)), parallelism)
+                .collectList()
+                .doOnNext(results -> log.info("Bulk create finished: {}", summary(results)));
+    }
+
+    /**
+     * Resolves the names with one batched lookup ({@link EmployeeApiClient#getByIdsReactive}) instead of
+     * one {@code getById} per employee, then deletes by name. Repeated ids are reported as failed rather
+     * than deleting a second employee that happens to share the name.
+     */
+    public Mono<List<BulkItemResult>> deleteAll(List<String> ids) {
+        log.info("Bulk service: delete count={} parallelism={}", ids.size(), parallelism);
+        Set<String> seen = new HashSet<>();
+        List<Boolean> repeated = ids.stream().map(id -> !seen.add(id)).toList();
+        return client.getByIdsReactive(ids)
+                .flatMapMany(found -> Flux.range(0, ids.size())
+                        .flatMapSequential(index -> repeated.get(index)
+                                ? Mono.just(failed(index, ids.get(index), null, "Duplicate id"))
+                                : delete(index, ids.get(index), found), parallelism))
+                .collectList()
+                .onErrorResume(ex -> {
+                    // the name lookup failed, nothing was deleted
+                    log.warn("Bulk delete aborted, lookup of {} ids failed: {}", ids.size(), ex.toString());
+                    return Mono.just(IntStream.range(0, ids.size())
+                            .mapToObj(index -> failed(index, ids.get(index), null, "Lookup failed: " + ex.getMessage()))
+                            .toList());
+                })
+                .doOnNext(results -> log.info("Bulk delete finished: {}", summary(results)));
+    }
+
+    private Mono<BulkItemResult> create(int index, CreateEmployeeRequest input) {
+        return client.createReactive(input)
+                .publishOn(Schedulers.boundedElastic()) // see the class doc
+                .map(created -> {
+                    cache.applyCreated(created);
+                    events.publishCreated(created);
+                    return new BulkItemResult(index, created.getId(), created.getName(), Status.CREATED, null);
+                })
+                .onErrorResume(ex -> Mono.just(failed(index, null, input.getName(), ex.getMessage())));
+    }
+
+    private Mono<BulkItemResult> delete(int index, String id, Map<String, Employee> found) {
+        Employee employee = found.get(id);
+        if (employee == null || employee.getName() == null) {
+            return Mono.just(new BulkItemResult(index, id, null, Status.NOT_FOUND, null));
+        }
+        return client.deleteByNameReactive(employee.getName())
+                .publishOn(Schedulers.boundedElastic()) // see the class doc
+                .map(deleted -> {
+                    if (!deleted) {
+                        String error = "Failed to delete employee name=" + employee.getName();
+                        return failed(index, id, employee.getName(), error);
+                    }
+                    cache.applyDeleted(employee);
+                    events.publishDeleted(employee);
+                    return new BulkItemResult(index, id, employee.getName(), Status.DELETED, null);
+                });
+    }
+
+    private static BulkItemResult failed(int index, String id, String name, String error) {
+        return new BulkItemResult(index, id, name, Status.FAILED, error);
+    }
+
+    private static Map<Status, Long> summary(List<BulkItemResult> results) {
+        return results.stream().collect(Collectors.groupingBy(BulkItemResult::getStatus, Collectors.counting()));
+    }
+}
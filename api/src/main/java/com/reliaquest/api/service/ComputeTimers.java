@@ -0,0 +1,35 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Pre-registered {@code employee.service.compute} timers of the reads answered from the snapshot indexes.
+ * Only the index work is timed; loading the snapshot is covered by the client and cache metrics.
+ */
+final class ComputeTimers {
+
+    static final String SEARCH_BY_NAME = "searchByName";
+    static final String HIGHEST_SALARY = "highestSalary";
+    static final String TOP_EARNERS = "topEarners";
+
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    ComputeTimers(MeterRegistry registry) {
+        for (String operation : List.of(SEARCH_BY_NAME, HIGHEST_SALARY, TOP_EARNERS)) {
+            timers.put(operation, Timer.builder("employee.service.compute")
+                    .description("Time spent computing a result from the employee snapshot")
+                    .tag("operation", operation)
+                    .register(registry));
+        }
+    }
+
+    <T> T record(String operation, Supplier<T> computation) {
+        return timers.get(operation).record(computation);
+    }
+}
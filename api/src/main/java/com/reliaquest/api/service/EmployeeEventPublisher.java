@@ -0,0 +1,148 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Fans out creates and deletes — writes through this API as well as those picked up from the upstream
+ * change feed — to any number of subscribers. Both paths report every change; one seen on both (a write
+ * through this API that later shows up in the feed) is published once.
+ * <p>
+ * Emitting never blocks or fails because of a subscriber. Each subscriber gets its own buffer of
+ * {@code employee.events.buffer-size} events that drops the oldest event when it overflows, so a slow
+ * consumer only loses its own events, and is drained on a small shared worker pool
+ * ({@code employee.events.threads}) rather than on the writing thread or a thread per subscriber. The last
+ * {@code employee.events.replay-size} events are kept, so a subscriber that reconnects with the sequence of
+ * the last event it saw gets what it missed in the meantime.
+ */
+@Component
+public class EmployeeEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeEventPublisher.class);
+    // one event in hand-over to the worker, the rest waits in the subscriber's bounded buffer
+    private static final int PREFETCH = 1;
+
+    private final Sinks.Many<EmployeeEvent> sink;
+    private final int bufferSize;
+    private final Scheduler scheduler;
+    // guarded by this, like every emission into the sink
+    private long sequence;
+    private final Map<String, Boolean> recentlyPublished;
+
+    private final Counter published;
+    private final Counter dropped;
+
+    @Autowired
+    public EmployeeEventPublisher(
+            MeterRegistry meterRegistry,
+            @Value("${employee.events.buffer-size:256}") int bufferSize,
+            @Value("${employee.events.replay-size:1024}") int replaySize,
+            @Value("${employee.events.threads:4}") int threads) {
+        this(meterRegistry, bufferSize, replaySize, Schedulers.newParallel("employee-events", threads, true));
+    }
+
+    EmployeeEventPublisher(MeterRegistry meterRegistry, int bufferSize, int replaySize, Scheduler scheduler) {
+        this.sink = Sinks.many().replay().limit(replaySize);
+        this.bufferSize = bufferSize;
+        this.scheduler = scheduler;
+        // access-ordered, bounded like the replay buffer
+        this.recentlyPublished = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > replaySize;
+            }
+        };
+        this.published = meterRegistry.counter("employee.events.published");
+        this.dropped = meterRegistry.counter("employee.events.dropped");
+        Gauge.builder("employee.events.subscribers", sink, Sinks.Many::currentSubscriberCount)
+                .description("Current subscribers of the employee event stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a new subscription to the events published from now on.
+     */
+    public Flux<EmployeeEvent> events() {
+        return events(null);
+    }
+
+    /**
+     * @param lastSequence sequence of the last event the subscriber has seen (its SSE {@code Last-Event-ID}),
+     *                     {@code null} for a new subscriber; a sequence this instance has not reached yet (e.g.
+     *                     seen before a restart) counts as {@code null}
+     * @return a subscription to the events published after {@code lastSequence}, as far as they are still
+     *         kept, followed by the events published from now on.
+     */
+    public Flux<EmployeeEvent> events(Long lastSequence) {
+        return Flux.defer(() -> {
+                    long current = currentSequence();
+                    long after = lastSequence == null || lastSequence > current ? current : lastSequence;
+                    return sink.asFlux().filter(event -> event.getSequence() > after);
+                })
+                .onBackpressureBuffer(bufferSize, event -> {
+                    dropped.increment();
+                    log.debug("Slow event subscriber, dropped event {}", event.getSequence());
+                }, BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(scheduler, PREFETCH);
+    }
+
+    /**
+     * @return ticks every {@code interval} on the same worker threads that deliver the events, e.g. to keep
+     *         a subscriber's connection alive.
+     */
+    public Flux<Long> heartbeat(Duration interval) {
+        return Flux.interval(interval, interval, scheduler);
+    }
+
+    public void publishCreated(Employee created) {
+        publish(EmployeeEvent.Type.CREATED, created);
+    }
+
+    public void publishDeleted(Employee deleted) {
+        publish(EmployeeEvent.Type.DELETED, deleted);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sink.tryEmitComplete();
+        scheduler.dispose();
+    }
+
+    private synchronized long currentSequence() {
+        return sequence;
+    }
+
+    // synchronized: writers on many threads, but the sink needs one producer at a time
+    private synchronized void publish(EmployeeEvent.Type type, Employee employee) {
+        if (employee.getId() != null && recentlyPublished.put(type + ":" + employee.getId(), Boolean.TRUE) != null) {
+            log.debug("Employee event {} id={} already published", type, employee.getId());
+            return;
+        }
+        EmployeeEvent event = new EmployeeEvent(++sequence, type, employee);
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure()) {
+            log.warn("Employee event {} not published: {}", event.getSequence(), result);
+            return;
+        }
+        published.increment();
+    }
+}
@@ -1,12 +1,20 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.Served;
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.index.EmployeeAggregateIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.model.BulkItemResult;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.MeterRegistry;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,59 +25,138 @@ public class EmployeeService {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
     private final EmployeeApiClient client;
+    private final EmployeeSnapshotCache cache;
+    private final EmployeeAggregateIndex aggregateIndex;
+    private final EmployeeNameIndex nameIndex;
+    private final BulkEmployeeService bulk;
+    private final EmployeeEventPublisher events;
+    private final ComputeTimers compute;
 
-    public EmployeeService(EmployeeApiClient client) {
+    public EmployeeService(
+            EmployeeApiClient client,
+            EmployeeSnapshotCache cache,
+            EmployeeAggregateIndex aggregateIndex,
+            EmployeeNameIndex nameIndex,
+            BulkEmployeeService bulk,
+            EmployeeEventPublisher events,
+            MeterRegistry meterRegistry) {
         this.client = client;
+        this.cache = cache;
+        this.aggregateIndex = aggregateIndex;
+        this.nameIndex = nameIndex;
+        this.bulk = bulk;
+        this.events = events;
+        this.compute = new ComputeTimers(meterRegistry);
     }
 
-    public List<Employee> getAllEmployees() {
+    public Served<List<Employee>> getAllEmployees() {
         log.info("Service: getAllEmployees()");
-        return client.getAllEmployees();
+        return cache.read().map(EmployeeSnapshot::employees);
     }
 
-    public List<Employee> searchByName(String fragment) {
-        log.info("Service: search employees by name contains='{}'", fragment);
-        String f = fragment == null ? "" : fragment.toLowerCase(Locale.ROOT);
-        List<Employee> filtered = client.getAllEmployees().stream()
-                .filter(e -> e.getName() != null
-                        && e.getName().toLowerCase(Locale.ROOT).contains(f))
-                .toList();
-        log.debug("Search fragment='{}' -> {} matches", fragment, filtered.size());
+    public Served<List<Employee>> searchByName(String fragment) {
+        return searchByName(fragment, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Case-insensitive "name contains" search answered from the name index.
+     *
+     * @param offset number of matches to skip
+     * @param limit  maximum number of matches to return
+     */
+    public Served<List<Employee>> searchByName(String fragment, int offset, int limit) {
+        log.info("Service: search employees by name contains='{}' offset={} limit={}", fragment, offset, limit);
+        // loads or refreshes the snapshot the name index is built from
+        Served<List<Employee>> filtered = cache.read().map(ignored ->
+                compute.record(ComputeTimers.SEARCH_BY_NAME, () -> nameIndex.search(fragment, offset, limit)));
+        log.debug("Search fragment='{}' -> {} matches", fragment, filtered.value().size());
         return filtered;
     }
 
-    public Employee getById(String id) {
+    /**
+     * One page of the listing, filtered and paged by the mock server; not served from the snapshot cache.
+     */
+    public EmployeePage getPage(EmployeeFilter filter, int size, String cursor) {
+        log.info("Service: getPage size={} cursor={} filter={}", size, cursor, filter);
+        return client.getPage(filter, size, cursor);
+    }
+
+    /**
+     * If the upstream fails, the employee is looked up in the last known good snapshot, see
+     * {@link EmployeeSnapshotCache#lastKnown(String)}.
+     *
+     * @return the employee, {@code null} if the upstream does not know it.
+     */
+    public Served<Employee> getById(String id) {
         log.info("Service: getEmployeeById id={}", id);
-        return client.getById(id);
+        try {
+            return Served.fresh(client.getById(id));
+        } catch (RuntimeException ex) {
+            return cache.lastKnown(id).orElseThrow(() -> ex);
+        }
     }
 
-    public Integer getHighestSalaryOfEmployees() {
+    /**
+     * @return the employees found for {@code ids}, keyed by id; unknown and malformed ids are left out.
+     */
+    public Map<String, Employee> getByIds(List<String> ids) {
+        log.info("Service: getEmployeesByIds count={}", ids.size());
+        return client.getByIds(ids);
+    }
+
+    public Served<Integer> getHighestSalaryOfEmployees() {
         log.info("Service: highestSalary()");
-        Integer max = client.getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .filter(s -> s != null)
-                .max(Integer::compareTo)
-                .orElse(0);
-        log.debug("Highest salary computed={}", max);
+        // loads or refreshes the snapshot the aggregate index is built from
+        Served<Integer> max = cache.read()
+                .map(ignored -> compute.record(ComputeTimers.HIGHEST_SALARY, aggregateIndex::highestSalary));
+        log.debug("Highest salary computed={}", max.value());
         return max;
     }
 
-    public List<String> top10NamesBySalary() {
+    public Served<List<String>> top10NamesBySalary() {
         log.info("Service: top10NamesBySalary()");
-        List<String> names = client.getAllEmployees().stream()
-                .sorted(Comparator.comparing(Employee::getSalary, Comparator.nullsLast(Comparator.naturalOrder()))
-                        .reversed())
-                .limit(10)
+        Served<List<String>> names = topEarners(10).map(top -> top.stream()
                 .map(Employee::getName)
-                .toList();
+                .toList());
 
-        log.debug("Top10 names computed size={} top={}", names.size(), names.isEmpty() ? "(none)" : names.get(0));
+        List<String> top = names.value();
+        log.debug("Top10 names computed size={} top={}", top.size(), top.isEmpty() ? "(none)" : top.get(0));
         return names;
     }
 
+    /**
+     * @param k number of employees wanted, at most the index capacity ({@code employee.index.top-k-capacity})
+     * @return the {@code k} highest earning employees, highest first.
+     */
+    public Served<List<Employee>> topEarners(int k) {
+        log.info("Service: topEarners(k={})", k);
+        // loads or refreshes the snapshot the aggregate index is built from
+        return cache.read()
+                .map(ignored -> compute.record(ComputeTimers.TOP_EARNERS, () -> aggregateIndex.topEarners(k)));
+    }
+
     public Employee create(CreateEmployeeRequest input) {
         log.info("Service: createEmployee name={}", input.getName());
-        return client.create(input);
+        Employee created = client.create(input);
+        cache.applyCreated(created);
+        events.publishCreated(created);
+        return created;
+    }
+
+    /**
+     * @return per-item results in request order, see {@link BulkEmployeeService}.
+     */
+    public List<BulkItemResult> createAll(List<CreateEmployeeRequest> inputs) {
+        log.info("Service: bulk createEmployees count={}", inputs.size());
+        return bulk.createAll(inputs).block();
+    }
+
+    /**
+     * @return per-item results in request order, see {@link BulkEmployeeService}.
+     */
+    public List<BulkItemResult> deleteAll(List<String> ids) {
+        log.info("Service: bulk deleteEmployeesByIds count={}", ids.size());
+        return bulk.deleteAll(ids).block();
     }
 
     /**
@@ -87,6 +174,8 @@ public class EmployeeService {
             log.warn("Delete failed: id={} name={}", id, e.getName());
             throw new IllegalStateException("Failed to delete employee name=" + e.getName());
         }
+        cache.applyDeleted(e);
+        events.publishDeleted(e);
         log.info("Deleted id={} name={}", id, e.getName());
         return e.getName();
     }
@@ -0,0 +1,162 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.Served;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.index.EmployeeAggregateIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}: same cache, indexes and error semantics, but
+ * every operation returns a {@link Mono} so no request thread waits on the upstream.
+ */
+@Service
+public class ReactiveEmployeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+    private final EmployeeApiClient client;
+    private final EmployeeSnapshotCache cache;
+    private final EmployeeAggregateIndex aggregateIndex;
+    private final EmployeeNameIndex nameIndex;
+    private final BulkEmployeeService bulk;
+    private final EmployeeEventPublisher events;
+    private final ComputeTimers compute;
+
+    public ReactiveEmployeeService(
+            EmployeeApiClient client,
+            EmployeeSnapshotCache cache,
+            EmployeeAggregateIndex aggregateIndex,
+            EmployeeNameIndex nameIndex,
+            BulkEmployeeService bulk,
+            EmployeeEventPublisher events,
+            MeterRegistry meterRegistry) {
+        this.client = client;
+        this.cache = cache;
+        this.aggregateIndex = aggregateIndex;
+        this.nameIndex = nameIndex;
+        this.bulk = bulk;
+        this.events = events;
+        this.compute = new ComputeTimers(meterRegistry);
+    }
+
+    public Mono<Served<List<Employee>>> getAllEmployees() {
+        log.info("Reactive service: getAllEmployees()");
+        return cache.readReactive().map(served -> served.map(EmployeeSnapshot::employees));
+    }
+
+    /**
+     * Emits the employees one by one: from the cached snapshot if one may be served, otherwise straight
+     * from the upstream stream, so that the first employee is written before the last one is decoded and
+     * no full list is held in memory. A streamed list does not fill the cache.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        log.info("Reactive service: streamAllEmployees()");
+        return Flux.defer(() -> cache.peek()
+                .map(snapshot -> Flux.fromIterable(snapshot.employees()))
+                .orElseGet(client::streamAllEmployees));
+    }
+
+    public Mono<Served<List<Employee>>> searchByName(String fragment, int offset, int limit) {
+        log.info("Reactive service: search employees by name contains='{}' offset={} limit={}", fragment, offset, limit);
+        return cache.readReactive().map(served -> served.map(ignored -> compute.record(
+                ComputeTimers.SEARCH_BY_NAME, () -> nameIndex.search(fragment, offset, limit))));
+    }
+
+    public Mono<EmployeePage> getPage(EmployeeFilter filter, int size, String cursor) {
+        log.info("Reactive service: getPage size={} cursor={} filter={}", size, cursor, filter);
+        return client.getPageReactive(filter, size, cursor);
+    }
+
+    public Mono<Served<Employee>> getById(String id) {
+        log.info("Reactive service: getEmployeeById id={}", id);
+        return client.getByIdReactive(id)
+                .map(Served::fresh)
+                .onErrorResume(ex -> cache.lastKnown(id).map(Mono::just).orElseGet(() -> Mono.error(ex)));
+    }
+
+    public Mono<Map<String, Employee>> getByIds(List<String> ids) {
+        log.info("Reactive service: getEmployeesByIds count={}", ids.size());
+        return client.getByIdsReactive(ids);
+    }
+
+    public Mono<Served<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Reactive service: highestSalary()");
+        return cache.readReactive().map(served -> served.map(
+                ignored -> compute.record(ComputeTimers.HIGHEST_SALARY, aggregateIndex::highestSalary)));
+    }
+
+    public Mono<Served<List<String>>> top10NamesBySalary() {
+        log.info("Reactive service: top10NamesBySalary()");
+        return topEarners(10).map(served -> served.map(top -> top.stream().map(Employee::getName).toList()));
+    }
+
+    public Mono<Served<List<Employee>>> topEarners(int k) {
+        log.info("Reactive service: topEarners(k={})", k);
+        return cache.readReactive().map(served -> served.map(
+                ignored -> compute.record(ComputeTimers.TOP_EARNERS, () -> aggregateIndex.topEarners(k))));
+    }
+
+    public Mono<Employee> create(CreateEmployeeRequest input) {
+        log.info("Reactive service: createEmployee name={}", input.getName());
+        return client.createReactive(input)
+                // off the WebClient's event loop: applying the change locks the cache and runs its listeners
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(created -> {
+                    cache.applyCreated(created);
+                    events.publishCreated(created);
+                });
+    }
+
+    public Mono<List<BulkItemResult>> createAll(List<CreateEmployeeRequest> inputs) {
+        log.info("Reactive service: bulk createEmployees count={}", inputs.size());
+        return bulk.createAll(inputs);
+    }
+
+    public Mono<List<BulkItemResult>> deleteAll(List<String> ids) {
+        log.info("Reactive service: bulk deleteEmployeesByIds count={}", ids.size());
+        return bulk.deleteAll(ids);
+    }
+
+    /**
+     * Delete by id → resolve name → delete by name (mock quirk).
+     */
+    public Mono<String> deleteById(String id) {
+        log.info("Reactive service: deleteEmployeeById id={}", id);
+        return client.getByIdReactive(id)
+                .filter(e -> e.getName() != null)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Delete aborted: id={} not found", id);
+                    return Mono.error(new IllegalArgumentException("Employee not found for id=" + id));
+                }))
+                .flatMap(e -> client.deleteByNameReactive(e.getName())
+                        .publishOn(Schedulers.boundedElastic()) // see create()
+                        .flatMap(ok -> {
+                            if (!ok) {
+                                log.warn("Delete failed: id={} name={}", id, e.getName());
+                                return Mono.error(
+                                        new IllegalStateException("Failed to delete employee name=" + e.getName()));
+                            }
+                            cache.applyDeleted(e);
+                            events.publishDeleted(e);
+                            log.info("Deleted id={} name={}", id, e.getName());
+                            return Mono.just(e.getName());
+                        }));
+    }
+}
@@ -6,12 +6,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.EmployeePage;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
@@ -19,7 +22,8 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employee.cache.enabled=false")
 class ApiApplicationTest {
 
 
@@ -53,6 +57,26 @@ class ApiApplicationTest {
         assertThat(resp.getBody()[0].getName()).isEqualTo("Tiger Nixon");
     }
 
+    @Test
+    void getAllEmployees_asNdjson_streamsOneEmployeePerLine() throws Exception {
+        Mockito.when(client.streamAllEmployees()).thenReturn(Flux.just(
+                new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com"),
+                new Employee("2", "Garrett Winters", 170750, 63, "Director", "gwinters@company.com")
+        ));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+        ResponseEntity<String> resp = http.exchange(url("/api/v1/employee"), HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        List<String> lines = resp.getBody().lines().filter(line -> !line.isBlank()).toList();
+        assertThat(lines).hasSize(2);
+        assertThat(om.readValue(lines.get(1), Employee.class).getName()).isEqualTo("Garrett Winters");
+        Mockito.verify(client, Mockito.never()).getAllEmployees();
+    }
+
     @Test
     void getEmployeesByNameSearch_filtersCaseInsensitive() {
         Mockito.when(client.getAllEmployees()).thenReturn(List.of(
@@ -68,6 +92,36 @@ class ApiApplicationTest {
                 .containsExactly("Tiger Nixon");
     }
 
+    @Test
+    void getEmployeePage_passesFiltersAndCursorToClient() {
+        EmployeeFilter expectedFilter = EmployeeFilter.builder().name("ti").minSalary(100000).build();
+        Mockito.when(client.getPage(expectedFilter, 2, "abc")).thenReturn(new EmployeePage(List.of(
+                new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com")), "next"));
+
+        ResponseEntity<EmployeePage> resp = http.getForEntity(
+                url("/api/v1/employee/page?size=2&cursor=abc&name=ti&minSalary=100000"), EmployeePage.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody().getEmployees()).extracting(Employee::getName).containsExactly("Tiger Nixon");
+        assertThat(resp.getBody().getNextCursor()).isEqualTo("next");
+    }
+
+    @Test
+    void getEmployeePage_invalidSize_returns400() {
+        ResponseEntity<String> resp = http.getForEntity(url("/api/v1/employee/page?size=0"), String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(client, Mockito.never()).getPage(any(), anyInt(), any());
+    }
+
+    @Test
+    void getEmployeePage_sizeAboveServerLimit_returns400WithoutUpstreamCall() {
+        ResponseEntity<String> resp = http.getForEntity(url("/api/v1/employee/page?size=1001"), String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(client, Mockito.never()).getPage(any(), anyInt(), any());
+    }
+
     @Test
     void getEmployeeById_found_and_notFound() {
         Mockito.when(client.getById("abc")).thenReturn(
@@ -87,6 +141,25 @@ class ApiApplicationTest {
         assertThat(nf.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void getEmployeesByIds_returnsFoundEmployeesById() {
+        Employee e = new Employee("id-1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com");
+        Mockito.when(client.getByIds(List.of("id-1", "id-2"))).thenReturn(Map.of("id-1", e));
+
+        ResponseEntity<Map> resp = http.postForEntity(url("/api/v1/employee/batch"),
+                Map.of("ids", List.of("id-1", "id-2")), Map.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody()).containsOnlyKeys("id-1");
+    }
+
+    @Test
+    void getEmployeesByIds_missingIds_returns400() {
+        ResponseEntity<String> resp = http.postForEntity(url("/api/v1/employee/batch"), Map.of(), String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void getHighestSalaryOfEmployees_returnsMax() {
         Mockito.when(client.getAllEmployees()).thenReturn(List.of(
@@ -0,0 +1,95 @@
+package com.reliaquest.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeEvent;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * {@code GET /api/v1/employee/events} over a real connection: events from writes without a cached snapshot,
+ * the stream ending after {@code employee.events.timeout} and the replay on reconnect.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"employee.cache.enabled=false", "employee.events.heartbeat=100ms", "employee.events.timeout=2s"})
+class EmployeeEventsApplicationTest {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<EmployeeEvent>> SSE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final CreateEmployeeRequest JILL =
+            new CreateEmployeeRequest("Jill Jenkins", 139082, 48, "Financial Advisor");
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TestRestTemplate http;
+
+    @MockBean
+    EmployeeApiClient client;
+
+    @Test
+    void events_streamWritesUntilTheTimeoutAndReplayWhatWasMissedOnReconnect() {
+        Mockito.when(client.create(any(CreateEmployeeRequest.class))).thenReturn(
+                new Employee("id-1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com"),
+                new Employee("id-2", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj2@company.com"));
+
+        StepVerifier.create(events(null))
+                .expectNextMatches(sse -> "keep-alive".equals(sse.comment())) // subscribed
+                .then(this::create)
+                .thenConsumeWhile(sse -> sse.data() == null)
+                .expectNextMatches(sse -> sse.data() != null
+                        && "CREATED".equals(sse.event())
+                        && "id-1".equals(sse.data().getEmployee().getId()))
+                .thenConsumeWhile(sse -> sse.data() == null)
+                .expectComplete() // employee.events.timeout
+                .verify(Duration.ofSeconds(10));
+
+        create(); // while disconnected
+
+        StepVerifier.create(events("1").filter(sse -> sse.data() != null))
+                .assertNext(sse -> {
+                    assertThat(sse.id()).isEqualTo("2");
+                    assertThat(sse.data().getEmployee().getId()).isEqualTo("id-2");
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    private Flux<ServerSentEvent<EmployeeEvent>> events(String lastEventId) {
+        return WebClient.create("http://localhost:" + port)
+                .get()
+                .uri("/api/v1/employee/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(SSE);
+    }
+
+    private void create() {
+        http.postForEntity("http://localhost:" + port + "/api/v1/employee", JILL, Employee.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@link ApiApplicationTest}, served by the reactive controller.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"employee.api.mode=reactive", "employee.cache.enabled=false"})
+class ReactiveApiApplicationTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TestRestTemplate http;
+
+    @MockBean
+    EmployeeApiClient client;
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    @Test
+    void getAllEmployees_and_highestSalary() {
+        Mockito.when(client.getAllEmployeesReactive()).thenReturn(Mono.just(List.of(
+                new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com"),
+                new Employee("2", "Garrett Winters", 170750, 63, "Director", "gwinters@company.com"))));
+
+        ResponseEntity<Employee[]> all = http.getForEntity(url("/api/v1/employee"), Employee[].class);
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(all.getBody()).extracting(Employee::getName).containsExactly("Tiger Nixon", "Garrett Winters");
+
+        ResponseEntity<Integer> max = http.getForEntity(url("/api/v1/employee/highestSalary"), Integer.class);
+        assertThat(max.getBody()).isEqualTo(320800);
+        Mockito.verify(client, Mockito.never()).getAllEmployees();
+    }
+
+    @Test
+    void getEmployeeById_notFound() {
+        Mockito.when(client.getByIdReactive("zzz")).thenReturn(Mono.empty());
+
+        ResponseEntity<String> nf = http.getForEntity(url("/api/v1/employee/zzz"), String.class);
+        assertThat(nf.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void createEmployee_returnsCreated() {
+        Employee created = new Employee("id-1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com");
+        Mockito.when(client.createReactive(any(CreateEmployeeRequest.class))).thenReturn(Mono.just(created));
+
+        ResponseEntity<Employee> resp = http.postForEntity(url("/api/v1/employee"),
+                new CreateEmployeeRequest("Jill Jenkins", 139082, 48, "Financial Advisor"), Employee.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resp.getBody().getEmail()).isEqualTo("jillj@company.com");
+    }
+
+    @Test
+    void deleteEmployeeById_deleteFails_returns409() {
+        Mockito.when(client.getByIdReactive("x")).thenReturn(Mono.just(new Employee("x", "Cant Delete", 1, 20, "", "")));
+        Mockito.when(client.deleteByNameReactive("Cant Delete")).thenReturn(Mono.just(false));
+
+        ResponseEntity<String> resp =
+                http.exchange(url("/api/v1/employee/x"), HttpMethod.DELETE, null, String.class);
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+}
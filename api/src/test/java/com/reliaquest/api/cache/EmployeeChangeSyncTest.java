@@ -0,0 +1,147 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.service.EmployeeEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+public class EmployeeChangeSyncTest {
+
+    private static final Employee TIGER = new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "t@company.com");
+    private static final Employee ASHTON = new Employee("3", "Ashton Cox", 86000, 66, "Author", "a@company.com");
+
+    private EmployeeApiClient client;
+    private EmployeeSnapshotCache cache;
+    private EmployeeEventPublisher events;
+    private EmployeeChangeSync sync;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(EmployeeApiClient.class);
+        cache = mock(EmployeeSnapshotCache.class);
+        when(cache.isEnabled()).thenReturn(true);
+        events = mock(EmployeeEventPublisher.class);
+        sync = new EmployeeChangeSync(client, cache, events, new SimpleMeterRegistry(), true, 2);
+        when(client.getChangesReactive(null, null, 2))
+                .thenReturn(Mono.just(new EmployeeChanges("e1", List.of(), 10)));
+    }
+
+    @Test
+    void firstPoll_withoutVersionedSnapshot_startsAtTheCurrentVersionAndKeepsTheSnapshot() {
+        when(cache.current()).thenReturn(new EmployeeSnapshot(List.of(TIGER), Instant.EPOCH));
+
+        sync.poll();
+
+        verify(client).getChangesReactive(null, null, 2);
+        verify(cache, never()).invalidate();
+        verify(cache, never()).applyCreated(any());
+    }
+
+    @Test
+    void firstPoll_catchesTheSnapshotUpFromTheVersionItWasLoadedAt() {
+        when(cache.current()).thenReturn(new EmployeeSnapshot(List.of(TIGER), Instant.EPOCH, "W/\"e1-7\""));
+        when(client.getChangesReactive(7L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(
+                new EmployeeChange(8, EmployeeChange.Type.CREATED, ASHTON)), 10)));
+
+        sync.poll();
+
+        verify(cache).applyCreated(ASHTON);
+        verify(client, never()).getChangesReactive(null, null, 2);
+        verify(cache, never()).invalidate();
+    }
+
+    @Test
+    void snapshotLoadedBehindTheAppliedChanges_isCaughtUpFromItsVersion() {
+        sync.poll(); // at version 10
+        when(cache.current()).thenReturn(new EmployeeSnapshot(List.of(TIGER), Instant.EPOCH, "W/\"e1-8\""));
+        when(client.getChangesReactive(8L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(
+                new EmployeeChange(9, EmployeeChange.Type.CREATED, ASHTON)), 10)));
+
+        sync.poll();
+
+        verify(cache).applyCreated(ASHTON);
+        verify(client, never()).getChangesReactive(10L, "e1", 2);
+    }
+
+    @Test
+    void warmedSnapshot_survivesTheFirstPollAndIsKeptUpToDate() {
+        EmployeeSnapshotCache warmed = new EmployeeSnapshotCache(client, new SimpleMeterRegistry(), List.of(),
+                refresh -> { }, true, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ofMinutes(15),
+                Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC));
+        warmed.warm(new EmployeeSnapshot(List.of(TIGER), Instant.parse("2023-12-31T23:00:00Z")));
+        sync = new EmployeeChangeSync(client, warmed, events, new SimpleMeterRegistry(), true, 2);
+        when(client.getChangesReactive(10L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(
+                new EmployeeChange(11, EmployeeChange.Type.CREATED, ASHTON)), 11)));
+
+        sync.poll(); // saved snapshots carry no version: starts at 10
+        sync.poll();
+
+        assertThat(warmed.current().employees()).containsExactly(TIGER, ASHTON);
+        verify(client, never()).getAllEmployees();
+    }
+
+    @Test
+    void laterPolls_applyChangesInBatchesAndAdvance() {
+        sync.poll();
+        when(client.getChangesReactive(10L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(
+                new EmployeeChange(11, EmployeeChange.Type.CREATED, ASHTON),
+                new EmployeeChange(12, EmployeeChange.Type.DELETED, TIGER)), 13)));
+        when(client.getChangesReactive(12L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(), 13)));
+        when(client.getChangesReactive(13L, "e1", 2)).thenReturn(Mono.just(new EmployeeChanges("e1", List.of(), 13)));
+
+        sync.poll();
+        sync.poll();
+
+        verify(cache).applyCreated(ASHTON);
+        verify(cache).applyDeleted(TIGER);
+        verify(events).publishCreated(ASHTON);
+        verify(events).publishDeleted(TIGER);
+        verify(client).getChangesReactive(13L, "e1", 2);
+        verify(cache, never()).invalidate();
+    }
+
+    @Test
+    void gone_resyncs() {
+        sync.poll();
+        when(client.getChangesReactive(10L, "e1", 2)).thenReturn(Mono.error(
+                WebClientResponseException.create(HttpStatus.GONE.value(), "Gone", null, null, null)));
+
+        sync.poll();
+
+        verify(client, times(2)).getChangesReactive(null, null, 2);
+        verify(cache, times(1)).invalidate();
+    }
+
+    @Test
+    void version_parsesTheMockServerETag() {
+        EmployeeChangeSync.Version expected = new EmployeeChangeSync.Version("3fa9c", 42);
+
+        assertThat(EmployeeChangeSync.Version.parse("W/\"3fa9c-42\"")).isEqualTo(expected);
+        assertThat(EmployeeChangeSync.Version.parse("\"3fa9c-42\"")).isEqualTo(expected);
+        assertThat(EmployeeChangeSync.Version.parse("W/\"3fa9c\"")).isNull();
+        assertThat(EmployeeChangeSync.Version.parse("W/\"3fa9c-x\"")).isNull();
+        assertThat(EmployeeChangeSync.Version.parse(null)).isNull();
+    }
+}
@@ -0,0 +1,300 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeSnapshotCacheTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com"),
+            new Employee("2", "Garrett Winters", 170750, 63, "Director", "gwinters@company.com"));
+
+    private EmployeeApiClient client;
+    private MutableClock clock;
+    private SimpleMeterRegistry registry;
+    private EmployeeSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(EmployeeApiClient.class);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        registry = new SimpleMeterRegistry();
+        cache = new EmployeeSnapshotCache(
+                client, registry, List.of(), ForkJoinPool.commonPool(), true, Duration.ofSeconds(30), Duration.ofMinutes(2),
+                Duration.ofMinutes(15), clock);
+        when(client.getAllEmployees()).thenReturn(EMPLOYEES);
+    }
+
+    @Test
+    void freshSnapshot_servedWithoutUpstreamCall() {
+        cache.get();
+        clock.advance(Duration.ofSeconds(10));
+        EmployeeSnapshot snapshot = cache.get();
+
+        assertThat(snapshot.employees()).hasSize(2);
+        verify(client, times(1)).getAllEmployees();
+        assertThat(registry.counter("employee.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(registry.counter("employee.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void loadedSnapshot_remembersTheETagOfItsList() {
+        when(client.etagOf(EMPLOYEES)).thenReturn(Optional.of("W/\"e1-7\""));
+
+        assertThat(cache.get().version()).isEqualTo("W/\"e1-7\"");
+    }
+
+    @Test
+    void staleSnapshot_servedWhileRefreshingInBackground() {
+        EmployeeSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(45));
+
+        assertThat(cache.get()).isSameAs(first);
+        verify(client, timeout(1_000).times(2)).getAllEmployees();
+        assertThat(registry.counter("employee.cache.requests", "result", "stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredSnapshot_reloadedSynchronously() {
+        EmployeeSnapshot first = cache.get();
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.get()).isNotSameAs(first);
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void failedReload_servesLastKnownGoodSnapshotUpToMaxStaleness() {
+        EmployeeSnapshot first = cache.get();
+        when(client.getAllEmployees()).thenThrow(new IllegalStateException("upstream down"));
+        clock.advance(Duration.ofMinutes(5));
+
+        Served<EmployeeSnapshot> fallback = cache.read();
+        assertThat(fallback.value()).isSameAs(first);
+        assertThat(fallback.staleness()).contains(Duration.ofMinutes(5));
+        Served<Employee> employee = cache.lastKnown("2").orElseThrow();
+        assertThat(employee.value().getName()).isEqualTo("Garrett Winters");
+        assertThat(employee.staleness()).contains(Duration.ofMinutes(5));
+        assertThat(registry.counter("employee.cache.requests", "result", "fallback").count()).isEqualTo(2);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThatThrownBy(cache::get).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.lastKnown("2")).isEmpty();
+    }
+
+    @Test
+    void successfulReload_isServedFresh() {
+        cache.get();
+        when(client.getAllEmployees()).thenThrow(new IllegalStateException("upstream down")).thenReturn(EMPLOYEES);
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(cache.read().staleness()).isPresent();
+
+        cache.invalidate();
+        assertThat(cache.read().staleness()).isEmpty();
+    }
+
+    @Test
+    void staleness_belongsToTheReadThatFellBack() {
+        EmployeeSnapshotCache uncached = new EmployeeSnapshotCache(client, registry, List.of(), Runnable::run, false,
+                Duration.ZERO, Duration.ZERO, Duration.ofMinutes(15), clock);
+        Served<EmployeeSnapshot> loaded = uncached.read();
+        when(client.getAllEmployees()).thenThrow(new IllegalStateException("upstream down")).thenReturn(EMPLOYEES);
+        clock.advance(Duration.ofMinutes(5));
+
+        Served<EmployeeSnapshot> fallback = uncached.read(); // e.g. a concurrent request
+        Served<EmployeeSnapshot> reloaded = uncached.read();
+
+        assertThat(loaded.staleness()).isEmpty();
+        assertThat(fallback.staleness()).contains(Duration.ofMinutes(5));
+        assertThat(reloaded.staleness()).isEmpty();
+    }
+
+    @Test
+    void warm_servesSavedSnapshotAtOnceAndRefreshesInBackground() {
+        cache.warm(new EmployeeSnapshot(EMPLOYEES.subList(0, 1), clock.instant().minus(Duration.ofHours(1))));
+
+        assertThat(cache.get().employees()).hasSize(1);
+        verify(client, timeout(1_000).times(1)).getAllEmployees();
+        assertThat(registry.counter("employee.cache.requests", "result", "stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    void peek_servesCachedSnapshotButNeverLoads() {
+        assertThat(cache.peek()).isEmpty();
+        verify(client, never()).getAllEmployees();
+
+        EmployeeSnapshot loaded = cache.get();
+        assertThat(cache.peek()).containsSame(loaded);
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        cache.get();
+        cache.invalidate();
+        cache.get();
+
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void applyCreatedAndDeleted_updateSnapshotInPlaceAndNotifyListeners() {
+        EmployeeSnapshotListener listener = mock(EmployeeSnapshotListener.class);
+        cache = new EmployeeSnapshotCache(
+                client, registry, List.of(listener), ForkJoinPool.commonPool(), true, Duration.ofSeconds(30), Duration.ofMinutes(2),
+                Duration.ofMinutes(15), clock);
+        cache.get();
+        verify(listener).onSnapshot(any());
+
+        Employee created = new Employee("3", "Ashton Cox", 86000, 66, "Technical Author", "acox@company.com");
+        cache.applyCreated(created);
+        assertThat(cache.get().employees()).hasSize(3).last().isEqualTo(created);
+        verify(listener).onCreated(any(), eq(created));
+
+        cache.applyDeleted(EMPLOYEES.get(0));
+        assertThat(cache.get().employees()).extracting(Employee::getId).containsExactly("2", "3");
+        assertThat(cache.get().find("3")).contains(created);
+        assertThat(cache.get().contains("1")).isFalse();
+        verify(listener).onDeleted(any(), eq(EMPLOYEES.get(0)));
+
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void applyCreatedAndDeleted_ignoreChangesTheSnapshotAlreadyReflects() {
+        EmployeeSnapshotListener listener = mock(EmployeeSnapshotListener.class);
+        cache = new EmployeeSnapshotCache(
+                client, registry, List.of(listener), ForkJoinPool.commonPool(), true, Duration.ofSeconds(30), Duration.ofMinutes(2),
+                Duration.ofMinutes(15), clock);
+        EmployeeSnapshot loaded = cache.get();
+
+        cache.applyCreated(EMPLOYEES.get(0));
+        cache.applyDeleted(new Employee("3", "Ashton Cox", 86000, 66, "Technical Author", "acox@company.com"));
+
+        assertThat(cache.get()).isSameAs(loaded);
+        verify(listener, never()).onCreated(any(), any());
+        verify(listener, never()).onDeleted(any(), any());
+    }
+
+    @Test
+    void changeTheSnapshotAlreadyReflects_keepsTheLoadInFlight() {
+        cache = new EmployeeSnapshotCache(
+                client, registry, List.of(), Runnable::run, true, Duration.ofSeconds(30), Duration.ofMinutes(2),
+                Duration.ofMinutes(15), clock);
+        cache.get();
+        clock.advance(Duration.ofSeconds(45));
+        List<Employee> reloaded = List.of(EMPLOYEES.get(1));
+        when(client.getAllEmployees()).thenAnswer(inv -> {
+            cache.applyCreated(EMPLOYEES.get(0)); // e.g. replayed from the change feed
+            return reloaded;
+        });
+
+        cache.get(); // stale: refreshes on the calling thread
+
+        assertThat(cache.current().employees()).isEqualTo(reloaded);
+    }
+
+    @Test
+    void changeWithoutSnapshot_discardsTheLoadInFlight() {
+        when(client.getAllEmployees()).thenAnswer(inv -> {
+            cache.applyCreated(new Employee("3", "Ashton Cox", 86000, 66, "Technical Author", "acox@company.com"));
+            return EMPLOYEES;
+        });
+
+        assertThat(cache.get().employees()).hasSize(2);
+        assertThat(cache.current()).isNull();
+    }
+
+    @Test
+    void concurrentMisses_shareSingleUpstreamFetch() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.getAllEmployees()).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return EMPLOYEES;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<EmployeeSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(cache::get));
+            }
+            verify(client, timeout(1_000).times(1)).getAllEmployees();
+            release.countDown();
+            for (Future<EmployeeSnapshot> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).employees()).hasSize(2);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void disabled_alwaysCallsUpstream() {
+        cache = new EmployeeSnapshotCache(
+                client, registry, List.of(), ForkJoinPool.commonPool(), false, Duration.ofSeconds(30), Duration.ZERO,
+                Duration.ofMinutes(15), clock);
+        cache.get();
+        cache.get();
+
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
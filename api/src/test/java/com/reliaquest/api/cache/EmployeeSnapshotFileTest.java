@@ -0,0 +1,47 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeThenRead_roundTripsEmployeesAndLoadTime() throws Exception {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(
+                new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com"),
+                new Employee("2", "Zoë Ångström", null, 30, null, "zoe@company.com")),
+                Instant.parse("2024-01-01T00:00:00Z"));
+        Path file = dir.resolve("snapshots/employees.bin");
+
+        EmployeeSnapshotFile.write(file, snapshot);
+
+        EmployeeSnapshot read = EmployeeSnapshotFile.read(file);
+        assertThat(read.employees()).isEqualTo(snapshot.employees());
+        assertThat(read.loadedAt()).isEqualTo(snapshot.loadedAt());
+        try (var siblings = Files.list(file.getParent())) {
+            assertThat(siblings).containsExactly(file); // no temporary file left behind
+        }
+    }
+
+    @Test
+    void read_rejectsOtherFiles() throws Exception {
+        Path file = Files.writeString(dir.resolve("employees.json"), "{\"data\": []}");
+
+        assertThatThrownBy(() -> EmployeeSnapshotFile.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not an employee snapshot");
+    }
+}
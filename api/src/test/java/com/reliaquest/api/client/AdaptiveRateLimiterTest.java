@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private AtomicLong now;
+    private SimpleMeterRegistry registry;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        registry = new SimpleMeterRegistry();
+        limiter = new AdaptiveRateLimiter(
+                registry, true, 2, 0.5, 10, 0.5, 0.5, Duration.ofSeconds(2), 1, now::get);
+    }
+
+    @Test
+    void reserve_pacesRequestsAtThePermitRate() {
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 2);
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+
+        now.addAndGet(SECOND);
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void reserve_shedsWhenThePermitIsFurtherAwayThanMaxQueueWait() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.reserve()).isGreaterThanOrEqualTo(0);
+        }
+        assertThat(limiter.reserve()).isEqualTo(-1);
+    }
+
+    @Test
+    void filter_cancelledWhileQueued_returnsItsPermit() {
+        AtomicInteger calls = new AtomicInteger();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 2);
+
+        limiter.filter(request(), req -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .subscribe()
+                .dispose();
+
+        assertThat(calls).hasValue(0);
+        assertThat(limiter.reserve()).isEqualTo(SECOND); // not 1.5s: the cancelled request's permit is free again
+    }
+
+    @Test
+    void throttled_halvesTheRateAndHonoursRetryAfter() {
+        limiter.onThrottled(Duration.ofSeconds(1));
+
+        assertThat(limiter.permitsPerSecond()).isEqualTo(1.0);
+        assertThat(limiter.reserve()).isEqualTo(SECOND + SECOND); // pause, then one permit at 1/s
+        now.addAndGet(SECOND);
+        limiter.onThrottled(null);
+        limiter.onThrottled(null);
+        assertThat(limiter.permitsPerSecond()).isEqualTo(0.5); // floored at min-rate
+    }
+
+    @Test
+    void succeeded_increasesTheRateUpToTheMaximum() {
+        for (int i = 0; i < 100; i++) {
+            limiter.onSucceeded();
+        }
+        assertThat(limiter.permitsPerSecond()).isEqualTo(10.0);
+        assertThat(registry.get("employee.client.rate-limiter.permits").gauge().value()).isEqualTo(10.0);
+    }
+
+    @Test
+    void filter_serverErrorsDoNotRaiseTheRate() {
+        limiter = new AdaptiveRateLimiter(
+                registry, true, 20, 0.5, 100, 0.5, 0.5, Duration.ofSeconds(2), 1, now::get);
+        for (int i = 0; i < 10; i++) {
+            ClientResponse response = limiter.filter(request(), req -> Mono.just(
+                            ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+                    .block();
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(limiter.permitsPerSecond()).isEqualTo(20.0);
+    }
+
+    @Test
+    void filter_resendsAThrottledRequestOnce() {
+        // 20/s halved by the 429: the re-sent request waits for one permit at 10/s
+        limiter = new AdaptiveRateLimiter(
+                registry, true, 20, 0.5, 100, 0.5, 0.5, Duration.ofSeconds(2), 1, now::get);
+        AtomicInteger calls = new AtomicInteger();
+        ClientResponse response = limiter.filter(request(), req -> Mono.just(calls.incrementAndGet() == 1
+                        ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, "0")
+                                .build()
+                        : ClientResponse.create(HttpStatus.OK).build()))
+                .block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(calls).hasValue(2);
+        assertThat(registry.get("employee.client.rate-limiter.requests").tag("outcome", "throttled").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void filter_failsFastWithoutCallingTheUpstreamWhenShedding() {
+        limiter.onThrottled(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> limiter.filter(request(), req -> {
+                            calls.incrementAndGet();
+                            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                        })
+                        .block())
+                .isInstanceOf(RateLimitedException.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void retryAfter_parsesSecondsAndIgnoresGarbage() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "42");
+        assertThat(AdaptiveRateLimiter.retryAfter(headers)).isEqualTo(Duration.ofSeconds(42));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertThat(AdaptiveRateLimiter.retryAfter(headers)).isNull();
+        assertThat(AdaptiveRateLimiter.retryAfter(new HttpHeaders())).isNull();
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee")).build();
+    }
+}
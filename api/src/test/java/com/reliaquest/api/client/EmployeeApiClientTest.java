@@ -0,0 +1,216 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+public class EmployeeApiClientTest {
+
+    private static final String ID_1 = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+    private static final String ID_2 = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+    private static final String ID_3 = "8c0b46c2-da59-40f7-92c6-91967942007a";
+
+    private AtomicInteger requests;
+    private EmployeeApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        requests = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/api/v1/employee")
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("""
+                                    {"data": {
+                                      "%s": {"id": "%s", "employee_name": "Tiger Nixon"},
+                                      "%s": {"id": "%s", "employee_name": "Ashton Cox"}
+                                    }}""".formatted(ID_1, ID_1, ID_3, ID_3))
+                            .build());
+                })
+                .build();
+        client = newClient(webClient, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getByIds_dedupesDropsInvalidIdsAndBatches() {
+        Map<String, Employee> found = client.getByIds(List.of(ID_1, ID_2, ID_1, "not-a-uuid", "1-1-1-1-1", ID_3));
+
+        assertThat(requests).hasValue(2); // 3 valid distinct ids in batches of 2
+        assertThat(found).containsOnlyKeys(ID_1, ID_3);
+        assertThat(found.get(ID_1).getName()).isEqualTo("Tiger Nixon");
+    }
+
+    @Test
+    void getByIds_withoutValidIds_makesNoRequest() {
+        assertThat(client.getByIds(List.of("x", "y"))).isEmpty();
+        assertThat(requests).hasValue(0);
+    }
+
+    @Test
+    void getAllEmployees_reusesLastListOnNotModified() {
+        List<ClientRequest> sent = new CopyOnWriteArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/api/v1/employee")
+                .exchangeFunction(request -> {
+                    sent.add(request);
+                    if (request.headers().getIfNoneMatch().contains("W/\"run-1\"")) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .header(HttpHeaders.ETAG, "W/\"run-1\"")
+                            .body("""
+                                    {"data": [{"id": "%s", "employee_name": "Tiger Nixon"}]}""".formatted(ID_1))
+                            .build());
+                })
+                .build();
+        EmployeeApiClient conditional = newClient(webClient, new SimpleMeterRegistry());
+
+        List<Employee> first = conditional.getAllEmployees();
+        List<Employee> second = conditional.getAllEmployees();
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0).headers().getIfNoneMatch()).isEmpty();
+        assertThat(sent.get(1).headers().getIfNoneMatch()).containsExactly("W/\"run-1\"");
+        assertThat(first).extracting(Employee::getName).containsExactly("Tiger Nixon");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void metrics_registeredUpFrontAndDeleteByNameTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/api/v1/employee")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"data\": true}")
+                        .build()))
+                .build();
+        EmployeeApiClient timed = newClient(webClient, registry);
+
+        assertThat(registry.find("employee.api.latency").timers()).hasSize(14); // 7 operations x success/failure
+        assertThat(registry.get("employee.client.retry.events")
+                .tags("name", "getById", "type", "retry")
+                .counter()
+                .count()).isZero();
+
+        assertThat(timed.deleteByName("Tiger Nixon")).isTrue();
+
+        assertThat(registry.get("employee.api.latency")
+                .tags("operation", "deleteByName", "status", "success")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(registry.get("employee.client.circuitbreaker.events")
+                .tags("name", "deleteByName", "type", "success")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void failingCreates_openOnlyTheCreateBreaker() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/api/v1/employee")
+                .exchangeFunction(request -> {
+                    if (request.method() == HttpMethod.POST) {
+                        return Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("""
+                                    {"data": {"id": "%s", "employee_name": "Tiger Nixon"}}""".formatted(ID_1))
+                            .build());
+                })
+                .build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EmployeeApiResilience resilience = new EmployeeApiResilience(
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .build()),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()),
+                BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(),
+                registry);
+        EmployeeApiClient isolated = new EmployeeApiClient(webClient, registry, resilience,
+                RequestHedger.disabled(registry), true, Duration.ofSeconds(1), 100, 2, 4);
+        CreateEmployeeRequest create = new CreateEmployeeRequest("Jill Jenkins", 100, 30, "Advisor");
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> isolated.create(create)).isNotInstanceOf(CallNotPermittedException.class);
+        }
+
+        assertThatThrownBy(() -> isolated.create(create)).isInstanceOf(CallNotPermittedException.class);
+        assertThat(resilience.operation("createEmployee").circuitBreaker().getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(resilience.operation("getById").circuitBreaker().getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(isolated.getById(ID_1).getName()).isEqualTo("Tiger Nixon");
+    }
+
+    @Test
+    void getById_unknownIdIsEmptyButUpstreamErrorsPropagate() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/api/v1/employee")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(
+                        request.url().getPath().endsWith(ID_1) ? HttpStatus.NOT_FOUND : HttpStatus.SERVICE_UNAVAILABLE)
+                        .build()))
+                .build();
+        EmployeeApiClient failing = newClient(webClient, new SimpleMeterRegistry());
+
+        assertThat(failing.getById(ID_1)).isNull();
+        assertThatThrownBy(() -> failing.getById(ID_2))
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+    }
+
+    @Test
+    void batchSettings_outsideWhatTheServerAccepts_areRejected() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.create("http://localhost/api/v1/employee");
+        EmployeeApiResilience resilience = EmployeeApiResilience.ofDefaults(registry);
+        RequestHedger hedger = RequestHedger.disabled(registry);
+
+        assertThatThrownBy(() -> new EmployeeApiClient(webClient, registry, resilience, hedger, true,
+                Duration.ofSeconds(1), 100, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmployeeApiClient(webClient, registry, resilience, hedger, true,
+                Duration.ofSeconds(1), 100, EmployeeApiClient.MAX_BATCH_SIZE + 1, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmployeeApiClient(webClient, registry, resilience, hedger, true,
+                Duration.ofSeconds(1), 100, 200, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EmployeeApiClient newClient(WebClient webClient, SimpleMeterRegistry registry) {
+        return new EmployeeApiClient(webClient, registry, EmployeeApiResilience.ofDefaults(registry),
+                RequestHedger.disabled(registry), true, Duration.ofSeconds(1), 100, 2, 4);
+    }
+}
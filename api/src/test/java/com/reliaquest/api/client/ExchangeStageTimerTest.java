@@ -0,0 +1,66 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+public class ExchangeStageTimerTest {
+
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee")).build();
+
+    private AtomicLong now;
+    private SimpleMeterRegistry registry;
+    private ExchangeStageTimer stageTimer;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        registry = new SimpleMeterRegistry();
+        stageTimer = new ExchangeStageTimer(registry, now::get);
+    }
+
+    @Test
+    void filter_timesAcquireAndUpstreamWaitOfEachExchange() {
+        now.set(1_000);
+        ClientResponse response = stageTimer.filter(REQUEST, request -> Mono.deferContextual(context -> {
+                    ExchangeStageTimer.Exchange exchange = ExchangeStageTimer.exchange(context).orElseThrow();
+                    now.addAndGet(3_000); // waiting for a connection
+                    stageTimer.sent(exchange);
+                    now.addAndGet(20_000); // waiting for the response headers
+                    stageTimer.answered(exchange);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                }))
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(stage("acquire").count()).isEqualTo(1);
+        assertThat(stage("acquire").totalTime(TimeUnit.NANOSECONDS)).isEqualTo(3_000);
+        assertThat(stage("upstream_wait").count()).isEqualTo(1);
+        assertThat(stage("upstream_wait").totalTime(TimeUnit.NANOSECONDS)).isEqualTo(20_000);
+    }
+
+    @Test
+    void answered_withoutSentRequest_recordsNothing() {
+        stageTimer.answered(new ExchangeStageTimer.Exchange(now.get()));
+
+        assertThat(stage("upstream_wait").count()).isZero();
+    }
+
+    private Timer stage(String stage) {
+        return registry.get(ExchangeStageTimer.METRIC).tag("stage", stage).timer();
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class RequestCoalescerTest {
+
+    private MutableClock clock;
+    private SimpleMeterRegistry registry;
+    private RequestCoalescer<String, String> coalescer;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        registry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer<>("test.coalescing", Duration.ofSeconds(1), 100, registry, clock);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentLookups_shareOneUpstreamCall() {
+        Sinks.One<String> response = Sinks.one();
+        Mono<String> first = coalescer.get("1", id -> countCall(response.asMono()));
+        Mono<String> second = coalescer.get("1", id -> countCall(response.asMono()));
+
+        first.subscribe();
+        second.subscribe();
+        response.tryEmitValue("Tiger Nixon");
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.block()).isEqualTo("Tiger Nixon"); // served from the recent value
+        assertThat(registry.counter("test.coalescing.requests", "result", "upstream").count()).isEqualTo(1);
+        assertThat(registry.counter("test.coalescing.requests", "result", "joined").count()).isEqualTo(1);
+        assertThat(registry.counter("test.coalescing.requests", "result", "recent").count()).isEqualTo(1);
+        assertThat(registry.get("test.coalescing.ratio").gauge().value()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void recentValue_expiresAfterTtl() {
+        coalescer.get("1", id -> countCall(Mono.just("v1"))).block();
+        clock.advance(Duration.ofMillis(500));
+        assertThat(coalescer.get("1", id -> countCall(Mono.just("v2"))).block()).isEqualTo("v1");
+
+        clock.advance(Duration.ofMillis(600));
+        assertThat(coalescer.get("1", id -> countCall(Mono.just("v2"))).block()).isEqualTo("v2");
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void emptyResultsAndErrors_areNotRemembered() {
+        assertThat(coalescer.get("1", id -> countCall(Mono.<String>empty())).blockOptional()).isEmpty();
+        assertThat(coalescer.get("2", id -> countCall(Mono.<String>error(new IllegalStateException("boom"))))
+                .onErrorReturn("failed")
+                .block()).isEqualTo("failed");
+
+        assertThat(coalescer.get("1", id -> countCall(Mono.just("a"))).block()).isEqualTo("a");
+        assertThat(coalescer.get("2", id -> countCall(Mono.just("b"))).block()).isEqualTo("b");
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void invalidateIf_forgetsMatchingValues() {
+        coalescer.get("1", id -> countCall(Mono.just("Tiger Nixon"))).block();
+        coalescer.invalidateIf("Tiger Nixon"::equals);
+
+        coalescer.get("1", id -> countCall(Mono.just("Tiger Nixon"))).block();
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void invalidateIf_duringLoad_keepsTheLoadedValueOutOfTheCache() {
+        Sinks.One<String> response = Sinks.one();
+        CompletableFuture<String> before = coalescer.get("1", id -> countCall(response.asMono())).toFuture();
+
+        coalescer.invalidateIf("Tiger Nixon"::equals);
+        CompletableFuture<String> after = coalescer.get("1", id -> countCall(Mono.<String>empty())).toFuture();
+        response.tryEmitValue("Tiger Nixon");
+
+        assertThat(before).isCompletedWithValue("Tiger Nixon");
+        assertThat(after).isCompletedWithValue(null); // did not join the older load
+        assertThat(coalescer.get("1", id -> countCall(Mono.<String>empty())).blockOptional()).isEmpty();
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    private <T> Mono<T> countCall(Mono<T> response) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return response;
+        });
+    }
+
+    static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class RequestHedgerTest {
+
+    private AtomicLong now;
+    private AtomicInteger calls;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        calls = new AtomicInteger();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void slowRequest_isHedgedAfterTheDelayAndTheFirstAnswerWins() {
+        RequestHedger hedger = hedger(1.0);
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("getById", slowFirstCall()))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(2);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void withoutBudget_noHedgeIsSent() {
+        RequestHedger hedger = hedger(0.5); // two requests per hedge
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("getById", slowFirstCall()))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(hedges("denied")).isEqualTo(1);
+    }
+
+    @Test
+    void failingRequest_isNotHedged() {
+        RequestHedger hedger = hedger(1.0);
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("boom"));
+        });
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("getById", failing))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void delay_followsThePercentileOfRecentLatencies() {
+        RequestHedger hedger = hedger(1.0);
+        AtomicLong latency = new AtomicLong();
+        Mono<String> request = Mono.fromSupplier(() -> {
+            now.addAndGet(latency.get());
+            return "ok";
+        });
+
+        for (int i = 1; i <= 63; i++) {
+            latency.set(Duration.ofMillis(i).toNanos());
+            hedger.hedge("getById", request).block();
+        }
+        assertThat(hedger.delay("getById")).isEqualTo(Duration.ofMillis(100)); // not recomputed yet
+
+        latency.set(Duration.ofMillis(64).toNanos());
+        hedger.hedge("getById", request).block();
+        assertThat(hedger.delay("getById")).isEqualTo(Duration.ofMillis(61)); // p95 of 1..64ms
+    }
+
+    @Test
+    void delay_countsTheTimeOfCancelledRequests() {
+        RequestHedger hedger = new RequestHedger(registry, true, 0.95, Duration.ofMillis(10), Duration.ofMillis(100),
+                32, 32, 0, 10, now::get);
+
+        for (int i = 0; i < 32; i++) {
+            Disposable request = hedger.hedge("getById", Mono.never()).subscribe();
+            now.addAndGet(Duration.ofMillis(500).toNanos());
+            request.dispose(); // e.g. the losing request of a hedged pair
+        }
+
+        assertThat(hedger.delay("getById")).isEqualTo(Duration.ofMillis(500));
+    }
+
+    private RequestHedger hedger(double budgetRatio) {
+        return new RequestHedger(registry, true, 0.95, Duration.ofMillis(10), Duration.ofMillis(100), 50, 1000,
+                budgetRatio, 10, now::get);
+    }
+
+    // the first call answers after 5s, every further call at once
+    private Mono<String> slowFirstCall() {
+        return Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+                : Mono.just("hedge"));
+    }
+
+    private double hedges(String outcome) {
+        return registry.get("employee.client.hedging.requests")
+                .tags("operation", "getById", "outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -4,9 +4,11 @@ import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.reliaquest.api.cache.Served;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -14,8 +16,10 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @WebMvcTest(EmployeeController.class)
 public class EmployeeControllerTest {
@@ -29,9 +33,9 @@ public class EmployeeControllerTest {
     @Test
     void getAllEmployees_ok() throws Exception {
         Mockito.when(service.getAllEmployees())
-                .thenReturn(List.of(
+                .thenReturn(Served.fresh(List.of(
                         new Employee("1", "A", 100, 30, "T", "a@x.com"),
-                        new Employee("2", "B", 200, 40, "T2", "b@x.com")));
+                        new Employee("2", "B", 200, 40, "T2", "b@x.com"))));
 
         mvc.perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
@@ -39,10 +43,30 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_name", is("A")));
     }
 
+    @Test
+    void getAllEmployees_fromLastKnownGoodSnapshot_carriesItsAge() throws Exception {
+        Mockito.when(service.getAllEmployees()).thenReturn(
+                Served.stale(List.of(new Employee("1", "A", 100, 30, "T", "a@x.com")), Duration.ofSeconds(90)));
+
+        mvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(EmployeeController.STALENESS_HEADER, "90"));
+    }
+
+    @Test
+    void getAllEmployees_fresh_hasNoStalenessHeader() throws Exception {
+        Mockito.when(service.getAllEmployees()).thenReturn(Served.fresh(List.of()));
+
+        mvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(EmployeeController.STALENESS_HEADER));
+    }
+
     @Test
     void search_ok() throws Exception {
         Mockito.when(service.searchByName("ti"))
-                .thenReturn(List.of(new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "t@x.com")));
+                .thenReturn(Served.fresh(
+                        List.of(new Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "t@x.com"))));
 
         mvc.perform(get("/api/v1/employee/search/ti"))
                 .andExpect(status().isOk())
@@ -51,19 +75,40 @@ public class EmployeeControllerTest {
 
     @Test
     void getById_found() throws Exception {
-        Mockito.when(service.getById("abc")).thenReturn(new Employee("abc", "Alex", 100, 20, "Dev", "a@x.com"));
+        Mockito.when(service.getById("abc"))
+                .thenReturn(Served.fresh(new Employee("abc", "Alex", 100, 20, "Dev", "a@x.com")));
         mvc.perform(get("/api/v1/employee/abc")).andExpect(status().isOk()).andExpect(jsonPath("$.id", is("abc")));
     }
 
     @Test
     void getById_notFound() throws Exception {
-        Mockito.when(service.getById("nope")).thenReturn(null);
+        Mockito.when(service.getById("nope")).thenReturn(Served.fresh(null));
         mvc.perform(get("/api/v1/employee/nope")).andExpect(status().isNotFound());
     }
 
+    @Test
+    void getById_upstreamClientError_isPassedOn() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "3");
+        Mockito.when(service.getById("abc")).thenThrow(
+                WebClientResponseException.create(429, "Too Many Requests", headers, new byte[0], null));
+
+        mvc.perform(get("/api/v1/employee/abc"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+    }
+
+    @Test
+    void getById_upstreamServerError_isUnavailable() throws Exception {
+        Mockito.when(service.getById("abc")).thenThrow(
+                WebClientResponseException.create(502, "Bad Gateway", new HttpHeaders(), new byte[0], null));
+
+        mvc.perform(get("/api/v1/employee/abc")).andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     void highestSalary_ok() throws Exception {
-        Mockito.when(service.getHighestSalaryOfEmployees()).thenReturn(320800);
+        Mockito.when(service.getHighestSalaryOfEmployees()).thenReturn(Served.fresh(320800));
         mvc.perform(get("/api/v1/employee/highestSalary"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("320800"));
@@ -71,12 +116,28 @@ public class EmployeeControllerTest {
 
     @Test
     void top10_ok() throws Exception {
-        Mockito.when(service.top10NamesBySalary()).thenReturn(List.of("A", "B"));
+        Mockito.when(service.top10NamesBySalary()).thenReturn(Served.fresh(List.of("A", "B")));
         mvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0]", is("A")));
     }
 
+    @Test
+    void topEarners_ok() throws Exception {
+        Mockito.when(service.topEarners(2))
+                .thenReturn(Served.fresh(List.of(new Employee("1", "A", 100, 30, "T", "a@x.com"))));
+        mvc.perform(get("/api/v1/employee/topEarners").param("k", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name", is("A")));
+    }
+
+    @Test
+    void topEarners_beyondTheIndexCapacity_isRejected() throws Exception {
+        mvc.perform(get("/api/v1/employee/topEarners").param("k", "101")).andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v1/employee/topEarners").param("k", "-1")).andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(service);
+    }
+
     @Test
     void create_ok() throws Exception {
         var created = new Employee("id1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com");
@@ -0,0 +1,57 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeEvent;
+import com.reliaquest.api.service.EmployeeEventPublisher;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+/**
+ * {@code GET /api/v1/employee/events} on the WebFlux stack ({@code spring.main.web-application-type=reactive});
+ * the servlet stack is covered by {@code EmployeeEventsApplicationTest}.
+ */
+public class EmployeeStreamControllerTest {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<EmployeeEvent>> SSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    @Test
+    void events_onWebFlux_streamWritesUntilTheTimeout() {
+        EmployeeEventPublisher events = new EmployeeEventPublisher(new SimpleMeterRegistry(), 16, 16, 1);
+        WebTestClient http = WebTestClient.bindToController(new EmployeeStreamController(
+                        mock(ReactiveEmployeeService.class), events, Duration.ofMillis(100), Duration.ofSeconds(1)))
+                .build();
+
+        StepVerifier.create(http.get()
+                        .uri("/api/v1/employee/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(SSE)
+                        .getResponseBody())
+                .expectNextMatches(sse -> "keep-alive".equals(sse.comment())) // subscribed
+                .then(() -> events.publishCreated(
+                        new Employee("id-1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com")))
+                .thenConsumeWhile(sse -> sse.data() == null)
+                .assertNext(sse -> {
+                    assertThat(sse.event()).isEqualTo("CREATED");
+                    assertThat(sse.data().getEmployee().getId()).isEqualTo("id-1");
+                })
+                .thenConsumeWhile(sse -> sse.data() == null)
+                .expectComplete() // employee.events.timeout
+                .verify(Duration.ofSeconds(10));
+    }
+}
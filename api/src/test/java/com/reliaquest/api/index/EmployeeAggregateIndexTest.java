@@ -0,0 +1,70 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.Employee;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeAggregateIndexTest {
+
+    private EmployeeAggregateIndex index;
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeAggregateIndex(3);
+        snapshot = new EmployeeSnapshot(List.of(
+                new Employee("1", "A", 100, 30, "", ""),
+                new Employee("2", "B", 400, 30, "", ""),
+                new Employee("3", "C", 200, 30, "", ""),
+                new Employee("4", "D", null, 30, "", ""),
+                new Employee("5", "E", 400, 30, "", ""),
+                new Employee("6", "F", 300, 30, "", "")), Instant.now());
+        index.onSnapshot(snapshot);
+    }
+
+    @Test
+    void emptyIndex_reportsZero() {
+        EmployeeAggregateIndex empty = new EmployeeAggregateIndex(3);
+        assertThat(empty.highestSalary()).isZero();
+        assertThat(empty.topEarners(10)).isEmpty();
+    }
+
+    @Test
+    void rebuild_keepsBoundedTopKInStableOrder() {
+        assertThat(index.highestSalary()).isEqualTo(400);
+        assertThat(index.topEarners(10)).extracting(Employee::getName).containsExactly("B", "E", "F");
+        assertThat(index.topEarners(1)).extracting(Employee::getName).containsExactly("B");
+    }
+
+    @Test
+    void create_insertsIntoTopK() {
+        Employee created = new Employee("7", "G", 350, 30, "", "");
+        index.onCreated(snapshot.withCreated(created), created);
+
+        assertThat(index.topEarners(3)).extracting(Employee::getName).containsExactly("B", "E", "G");
+    }
+
+    @Test
+    void create_belowTopK_isIgnored() {
+        Employee created = new Employee("7", "G", 150, 30, "", "");
+        index.onCreated(snapshot.withCreated(created), created);
+
+        assertThat(index.topEarners(3)).extracting(Employee::getName).containsExactly("B", "E", "F");
+    }
+
+    @Test
+    void delete_ofRankedEmployee_promotesNextHighest() {
+        Employee deleted = snapshot.employees().get(1);
+        index.onDeleted(snapshot.withDeleted(deleted.getId()), deleted);
+
+        assertThat(index.highestSalary()).isEqualTo(400);
+        assertThat(index.topEarners(3)).extracting(Employee::getName).containsExactly("E", "F", "C");
+    }
+}
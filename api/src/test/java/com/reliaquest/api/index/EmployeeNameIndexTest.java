@@ -0,0 +1,94 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.Employee;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeNameIndexTest {
+
+    private EmployeeNameIndex index;
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeNameIndex(2);
+        snapshot = new EmployeeSnapshot(List.of(
+                new Employee("1", "Tiger Nixon", 320800, 61, "", ""),
+                new Employee("2", "Garrett Winters", 170750, 63, "", ""),
+                new Employee("3", "Ashton Cox", 86000, 66, "", ""),
+                new Employee("4", null, 1, 20, "", ""),
+                new Employee("5", "Cedric Kelly", 433060, 22, "", "")), Instant.now());
+        index.onSnapshot(snapshot);
+    }
+
+    @Test
+    void search_isCaseInsensitiveContains() {
+        assertThat(index.search("NIX", 0, 10)).extracting(Employee::getId).containsExactly("1");
+        assertThat(index.search("t wI", 0, 10)).extracting(Employee::getId).containsExactly("2");
+        assertThat(index.search("ti", 0, 10)).extracting(Employee::getId).containsExactly("1");
+        assertThat(index.search("zzz", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_emptyOrNullFragment_matchesEveryNamedEmployee() {
+        assertThat(index.search("", 0, 10)).extracting(Employee::getId).containsExactly("1", "2", "3", "5");
+        assertThat(index.search(null, 0, 10)).hasSize(4);
+    }
+
+    @Test
+    void search_appliesOffsetAndLimit() {
+        assertThat(index.search("e", 0, 2)).extracting(Employee::getId).containsExactly("1", "2");
+        assertThat(index.search("e", 2, 2)).extracting(Employee::getId).containsExactly("5");
+    }
+
+    @Test
+    void createAndDelete_areVisibleWithoutRebuild_andAfterCompaction() {
+        Employee created = new Employee("6", "Airi Satou", 162700, 33, "", "");
+        snapshot = snapshot.withCreated(created);
+        index.onCreated(snapshot, created);
+        Employee deleted = snapshot.employees().get(0);
+        snapshot = snapshot.withDeleted(deleted.getId());
+        index.onDeleted(snapshot, deleted);
+
+        assertThat(index.search("i", 0, 10)).extracting(Employee::getId).containsExactly("2", "5", "6");
+
+        // delta limit reached -> rebuilt from the snapshot
+        Employee another = new Employee("7", "Brielle Williamson", 372000, 61, "", "");
+        snapshot = snapshot.withCreated(another);
+        index.onCreated(snapshot, another);
+
+        assertThat(index.search("i", 0, 10)).extracting(Employee::getId).containsExactly("2", "5", "6", "7");
+    }
+
+    @Test
+    void search_matchesLinearScan() {
+        Random random = new Random(42);
+        String[] parts = {"ann", "anna", "bob", "nan", "ban", "ana", "ab", "na", "-", " "};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int p = 0; p < 4; p++) {
+                name.append(parts[random.nextInt(parts.length)]);
+            }
+            employees.add(new Employee(String.valueOf(i), name.toString(), 1, 20, "", ""));
+        }
+        index.onSnapshot(new EmployeeSnapshot(employees, Instant.now()));
+
+        for (String fragment : List.of("a", "an", "ann", "ANNA", "nana", "b-a", "ab ban", "annaanna", "x")) {
+            List<Employee> expected = employees.stream()
+                    .filter(e -> e.getName().toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT)))
+                    .toList();
+            assertThat(index.search(fragment, 0, Integer.MAX_VALUE)).as(fragment).isEqualTo(expected);
+        }
+    }
+}
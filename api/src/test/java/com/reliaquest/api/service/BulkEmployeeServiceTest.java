@@ -0,0 +1,123 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.EmployeeSnapshotListener;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.BulkItemResult.Status;
+import com.reliaquest.api.model.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+public class BulkEmployeeServiceTest {
+
+    private EmployeeApiClient client;
+    private EmployeeSnapshotCache cache;
+    private BulkEmployeeService bulk;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(EmployeeApiClient.class);
+        cache = mock(EmployeeSnapshotCache.class);
+        bulk = new BulkEmployeeService(client, cache, mock(EmployeeEventPublisher.class), 2);
+    }
+
+    @Test
+    void createAll_reportsEveryItemInRequestOrder() {
+        CreateEmployeeRequest jill = new CreateEmployeeRequest("Jill Jenkins", 139082, 48, "Financial Advisor");
+        CreateEmployeeRequest bill = new CreateEmployeeRequest("Bill Bob", 89750, 24, "Documentation Engineer");
+        Employee created = new Employee("id-1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com");
+        when(client.createReactive(jill)).thenReturn(Mono.just(created));
+        when(client.createReactive(bill)).thenReturn(Mono.error(new RuntimeException("429")));
+
+        List<BulkItemResult> results = bulk.createAll(List.of(jill, bill)).block();
+
+        assertThat(results).extracting(BulkItemResult::getIndex).containsExactly(0, 1);
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(Status.CREATED, Status.FAILED);
+        assertThat(results.get(0).getId()).isEqualTo("id-1");
+        assertThat(results.get(1).getError()).isEqualTo("429");
+        verify(cache).applyCreated(created);
+    }
+
+    @Test
+    void deleteAll_resolvesNamesInOneLookup() {
+        Employee tiger = new Employee("a", "Tiger Nixon", 1, 20, "", "");
+        Employee ashton = new Employee("b", "Ashton Cox", 1, 20, "", "");
+        List<String> ids = List.of("a", "b", "missing", "a");
+        when(client.getByIdsReactive(ids)).thenReturn(Mono.just(Map.of("a", tiger, "b", ashton)));
+        when(client.deleteByNameReactive("Tiger Nixon")).thenReturn(Mono.just(true));
+        when(client.deleteByNameReactive("Ashton Cox")).thenReturn(Mono.just(false));
+
+        List<BulkItemResult> results = bulk.deleteAll(ids).block();
+
+        assertThat(results).extracting(BulkItemResult::getStatus)
+                .containsExactly(Status.DELETED, Status.FAILED, Status.NOT_FOUND, Status.FAILED);
+        assertThat(results.get(3).getError()).isEqualTo("Duplicate id");
+        verify(cache).applyDeleted(tiger);
+        verify(cache, never()).applyDeleted(ashton);
+        verify(client, never()).getByIdReactive(any());
+    }
+
+    @Test
+    void deleteAll_lookupFails_reportsEveryItemFailed() {
+        when(client.getByIdsReactive(List.of("a", "b"))).thenReturn(Mono.error(new RuntimeException("down")));
+
+        List<BulkItemResult> results = bulk.deleteAll(List.of("a", "b")).block();
+
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(Status.FAILED, Status.FAILED);
+        verify(client, never()).deleteByNameReactive(any());
+    }
+
+    @Test
+    void appliedItems_reachTheCacheListenersOffTheEventLoop() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        EmployeeSnapshotListener listener = new EmployeeSnapshotListener() {
+            @Override
+            public void onSnapshot(EmployeeSnapshot snapshot) {
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        Employee tiger = new Employee("a", "Tiger Nixon", 1, 20, "", "");
+        Employee jill = new Employee("id-1", "Jill Jenkins", 139082, 48, "Financial Advisor", "jillj@company.com");
+        CreateEmployeeRequest input = new CreateEmployeeRequest("Jill Jenkins", 139082, 48, "Financial Advisor");
+        when(client.getAllEmployees()).thenReturn(List.of(tiger));
+        EmployeeSnapshotCache realCache = new EmployeeSnapshotCache(client, new SimpleMeterRegistry(),
+                List.of(listener), Runnable::run, true, Duration.ofMinutes(1), Duration.ZERO, Duration.ofMinutes(15));
+        realCache.get();
+        threads.clear();
+        Scheduler eventLoop = Schedulers.newSingle("reactor-http-nio");
+        try {
+            when(client.createReactive(input)).thenReturn(Mono.just(jill).publishOn(eventLoop));
+            when(client.getByIdsReactive(List.of("a"))).thenReturn(Mono.just(Map.of("a", tiger)));
+            when(client.deleteByNameReactive("Tiger Nixon")).thenReturn(Mono.just(true).publishOn(eventLoop));
+            bulk = new BulkEmployeeService(client, realCache, mock(EmployeeEventPublisher.class), 2);
+
+            bulk.createAll(List.of(input)).block();
+            bulk.deleteAll(List.of("a")).block();
+        } finally {
+            eventLoop.dispose();
+        }
+
+        assertThat(threads).hasSize(2).noneMatch(thread -> thread.startsWith("reactor-http"));
+        assertThat(realCache.get().employees()).containsExactly(jill);
+    }
+}
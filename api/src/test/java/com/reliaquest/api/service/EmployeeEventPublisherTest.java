@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+public class EmployeeEventPublisherTest {
+
+    private SimpleMeterRegistry registry;
+    private EmployeeEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        publisher = new EmployeeEventPublisher(registry, 2, 3, Schedulers.immediate());
+    }
+
+    @Test
+    void slowSubscriber_dropsItsOwnOldestEventsWithoutHoldingBackOthers() {
+        List<EmployeeEvent> fast = new CopyOnWriteArrayList<>();
+        Disposable fastSubscription = publisher.events().subscribe(fast::add);
+
+        StepVerifier.create(publisher.events(), 1)
+                .then(() -> {
+                    for (int i = 1; i <= 5; i++) {
+                        publisher.publishCreated(employee(i));
+                    }
+                })
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(1))
+                .thenRequest(10)
+                // event 2 was already handed to the worker, event 3 overflowed the buffer of 2
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(2))
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(4))
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(5))
+                .thenCancel()
+                .verify();
+
+        assertThat(fast).extracting(EmployeeEvent::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(registry.counter("employee.events.dropped").count()).isEqualTo(1);
+        fastSubscription.dispose();
+    }
+
+    @Test
+    void deletes_arePublishedWithTheirType() {
+        StepVerifier.create(publisher.events())
+                .then(() -> publisher.publishDeleted(employee(7)))
+                .assertNext(event -> {
+                    assertThat(event.getType()).isEqualTo(EmployeeEvent.Type.DELETED);
+                    assertThat(event.getEmployee().getId()).isEqualTo("7");
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void reconnectingSubscriber_getsTheKeptEventsAfterItsLastSequence() {
+        for (int i = 1; i <= 5; i++) {
+            publisher.publishCreated(employee(i));
+        }
+
+        StepVerifier.create(publisher.events(3L))
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(4))
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(5))
+                .then(() -> publisher.publishDeleted(employee(5)))
+                .assertNext(event -> assertThat(event.getSequence()).isEqualTo(6))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void lastSequenceFromBeforeARestart_getsOnlyNewEvents() {
+        publisher.publishCreated(employee(1));
+
+        StepVerifier.create(publisher.events(42L))
+                .then(() -> publisher.publishCreated(employee(2)))
+                .assertNext(event -> assertThat(event.getEmployee().getId()).isEqualTo("2"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void changeSeenOnTheWriteAndTheFeedPath_isPublishedOnce() {
+        StepVerifier.create(publisher.events())
+                .then(() -> {
+                    publisher.publishCreated(employee(1)); // through this API
+                    publisher.publishCreated(employee(1)); // and again from the change feed
+                    publisher.publishDeleted(employee(1));
+                })
+                .assertNext(event -> assertThat(event.getType()).isEqualTo(EmployeeEvent.Type.CREATED))
+                .assertNext(event -> {
+                    assertThat(event.getType()).isEqualTo(EmployeeEvent.Type.DELETED);
+                    assertThat(event.getSequence()).isEqualTo(2);
+                })
+                .thenCancel()
+                .verify();
+        assertThat(registry.counter("employee.events.published").count()).isEqualTo(2);
+    }
+
+    private static Employee employee(int id) {
+        return new Employee(Integer.toString(id), "Employee " + id, 50000, 30, "Engineer", id + "@company.com");
+    }
+}
@@ -4,13 +4,19 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.index.EmployeeAggregateIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
 
 public class EmployeeServiceTest {
 
@@ -20,7 +26,14 @@ public class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         client = mock(EmployeeApiClient.class); // create mock manually
-        service = new EmployeeService(client); // inject mock manually
+        EmployeeAggregateIndex aggregateIndex = new EmployeeAggregateIndex(100);
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(1024);
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(client, new SimpleMeterRegistry(),
+                List.of(aggregateIndex, nameIndex), Runnable::run, false, Duration.ZERO, Duration.ZERO, Duration.ZERO); // no caching
+        EmployeeEventPublisher events =
+                new EmployeeEventPublisher(new SimpleMeterRegistry(), 16, 16, Schedulers.immediate());
+        service = new EmployeeService(client, cache, aggregateIndex, nameIndex,
+                new BulkEmployeeService(client, cache, events, 4), events, new SimpleMeterRegistry());
     }
 
     @Test
@@ -29,7 +42,7 @@ public class EmployeeServiceTest {
                 new Employee("1", "Landon Barrows", 100, 30, "mr", "landon@gmail.com"),
                 new Employee("2", "Bob", 120, 25, "mr", "bob@gmail.com"));
         when(client.getAllEmployees()).thenReturn(list);
-        List<Employee> res = service.searchByName("Landon");
+        List<Employee> res = service.searchByName("Landon").value();
         assertEquals(1, res.size());
         assertEquals("Landon Barrows", res.get(0).getName());
     }
@@ -41,7 +54,7 @@ public class EmployeeServiceTest {
                 .thenReturn(List.of(
                         new Employee("1", "A", 100, 30, "T", "a@b.com"),
                         new Employee("2", "B", 320800, 61, "T2", "b@a.com")));
-        assertThat(service.getHighestSalaryOfEmployees()).isEqualTo(320800);
+        assertThat(service.getHighestSalaryOfEmployees().value()).isEqualTo(320800);
     }
 
     @Test
@@ -51,7 +64,7 @@ public class EmployeeServiceTest {
                         new Employee("1", "X", 10, 20, "", ""),
                         new Employee("2", "Y", 30, 20, "", ""),
                         new Employee("3", "Z", 20, 20, "", "")));
-        assertThat(service.top10NamesBySalary()).containsExactly("Y", "Z", "X");
+        assertThat(service.top10NamesBySalary().value()).containsExactly("Y", "Z", "X");
     }
 
     @Test
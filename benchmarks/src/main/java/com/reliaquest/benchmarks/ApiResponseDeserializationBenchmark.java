@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson decoding of the mock server's get-all-employees payload into {@code ApiResponse<List<Employee>>}, the
+ * work {@code EmployeeApiClient} does on every full list fetch, for the JSON and the CBOR
+ * ({@code employee.client.payload-format=cbor}) encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ApiResponseDeserializationBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"json", "cbor"})
+    String format;
+
+    private ObjectMapper objectMapper;
+    private JavaType responseType;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = "cbor".equals(format) ? new CBORMapper() : new ObjectMapper();
+        responseType = objectMapper
+                .getTypeFactory()
+                .constructParametricType(
+                        ApiResponse.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+        payload = objectMapper.writeValueAsBytes(
+                new ApiResponse<>(Datasets.employees(size), "Successfully processed request.", null));
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> deserializeEmployeeList() throws Exception {
+        return objectMapper.readValue(payload, responseType);
+    }
+}
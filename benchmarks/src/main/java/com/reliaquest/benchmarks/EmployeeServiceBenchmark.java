@@ -0,0 +1,98 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.index.EmployeeAggregateIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.BulkEmployeeService;
+import com.reliaquest.api.service.EmployeeEventPublisher;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read paths of {@link EmployeeService} wired as in the application (snapshot cache, aggregate and name
+ * indexes) on top of {@link StubEmployeeApiClient}.
+ * <p>
+ * {@code snapshot=warm} measures requests served from a cached snapshot; {@code snapshot=cold} disables the
+ * cache so that every call also loads the list and rebuilds the indexes, like a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"warm", "cold"})
+    String snapshot;
+
+    @Param({"nix", "a"})
+    String fragment;
+
+    private EmployeeService service;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = Datasets.employees(size);
+        StubEmployeeApiClient client = new StubEmployeeApiClient(employees);
+        EmployeeAggregateIndex aggregateIndex = new EmployeeAggregateIndex(100);
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(1024);
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(
+                client,
+                new SimpleMeterRegistry(),
+                List.of(aggregateIndex, nameIndex),
+                Runnable::run,
+                "warm".equals(snapshot),
+                Duration.ofDays(1),
+                Duration.ZERO,
+                Duration.ZERO);
+        EmployeeEventPublisher events = new EmployeeEventPublisher(new SimpleMeterRegistry(), 256, 1024, 1);
+        service = new EmployeeService(
+                client,
+                cache,
+                aggregateIndex,
+                nameIndex,
+                new BulkEmployeeService(client, cache, events, 1),
+                events,
+                new SimpleMeterRegistry());
+        service.getAllEmployees(); // loads the snapshot outside of the measurement
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return service.searchByName(fragment).value();
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameFirstPage() {
+        return service.searchByName(fragment, 0, 50).value();
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return service.getHighestSalaryOfEmployees().value();
+    }
+
+    @Benchmark
+    public List<String> top10NamesBySalary() {
+        return service.top10NamesBySalary().value();
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups of the mock server's {@link MockEmployeeService}. The target employee sits in the middle of the
+ * dataset; {@link #deleteAndRestore()} saves the deleted employee again so that the dataset size stays
+ * constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int size;
+
+    private MockEmployeeRepository repository;
+    private MockEmployeeService service;
+    private MockEmployee target;
+    private UUID missingId;
+    private DeleteMockEmployeeInput deleteInput;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> employees = Datasets.mockEmployees(size);
+        target = employees.get(size / 2);
+        missingId = new UUID(0, -1);
+        deleteInput = new DeleteMockEmployeeInput();
+        deleteInput.setName(target.getName());
+        repository = new MockEmployeeRepository(employees);
+        service = new MockEmployeeService(new Faker(Locale.ROOT), repository);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(target.getId());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findByIdMissing() {
+        return service.findById(missingId);
+    }
+
+    @Benchmark
+    public boolean deleteAndRestore() {
+        boolean deleted = service.delete(deleteInput);
+        repository.save(target);
+        return deleted;
+    }
+}
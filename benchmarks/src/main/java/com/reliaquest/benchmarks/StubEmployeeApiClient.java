@@ -0,0 +1,48 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.EmployeeApiResilience;
+import com.reliaquest.api.client.RequestHedger;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link EmployeeApiClient} answering from memory, so that benchmarks measure the API's own code paths and not
+ * the network or the mock server.
+ */
+class StubEmployeeApiClient extends EmployeeApiClient {
+
+    private final List<Employee> employees;
+
+    StubEmployeeApiClient(List<Employee> employees) {
+        this(employees, new SimpleMeterRegistry());
+    }
+
+    private StubEmployeeApiClient(List<Employee> employees, SimpleMeterRegistry registry) {
+        super(
+                WebClient.create(),
+                registry,
+                EmployeeApiResilience.ofDefaults(registry),
+                RequestHedger.disabled(registry),
+                false,
+                Duration.ZERO,
+                0,
+                200,
+                4);
+        this.employees = List.copyOf(employees);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return employees;
+    }
+
+    @Override
+    public Mono<List<Employee>> getAllEmployeesReactive() {
+        return Mono.just(employees);
+    }
+}
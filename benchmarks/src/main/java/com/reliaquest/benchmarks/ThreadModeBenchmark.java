@@ -0,0 +1,92 @@
+package com.reliaquest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two scheduling models behind the API's request execution modes for a burst of concurrent tasks that
+ * each block for the upstream latency: a platform thread pool sized like Tomcat's default
+ * ({@code server.tomcat.threads.max}) versus one virtual thread per task ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Executor-only: the tasks {@link Thread#sleep} instead of going through Tomcat and {@code EmployeeApiClient}, so
+ * this measures queueing on the pool, not the application.
+ * <p>
+ * Only {@code platform} runs by default, since the repo builds on Java 17. The {@code virtual} mode needs a Java 21
+ * runtime: {@code ./gradlew -PjavaVersion=21 benchmarks:jmh -PjmhArgs="ThreadModeBenchmark -p mode=platform,virtual"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    // "virtual" needs Java 21, see the class comment
+    @Param({"platform"})
+    String mode;
+
+    @Param({"200", "2000"})
+    int concurrentRequests;
+
+    @Param({"20"})
+    int upstreamLatencyMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burstOfBlockingUpstreamCalls() throws Exception {
+        List<Future<Integer>> inFlight = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            inFlight.add(executor.submit(() -> {
+                Thread.sleep(upstreamLatencyMillis);
+                return 1;
+            }));
+        }
+        int completed = 0;
+        for (Future<Integer> request : inFlight) {
+            completed += request.get();
+        }
+        return completed;
+    }
+
+    // looked up reflectively so that the module still compiles on the default Java 17 toolchain
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Virtual threads need Java 21, run with -PjavaVersion=21", ex);
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.model.FaultProfile;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeSnapshotFile;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,20 +28,56 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultProfile.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RandomRequestLimitInterceptor randomRequestLimitInterceptor;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The repository is modifiable by design for CRUD operations. With mock.employees.snapshot-file the generated
+     * dataset is saved there, and later starts load it instead of generating a new one: delete the file to
+     * regenerate, e.g. after changing mock.employees.max. A corrupt, truncated or unreadable file is
+     * regenerated too.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeRepository mockEmployeeRepository(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.snapshot-file:}") String snapshotFile,
+            @Value("${mock.changes.capacity:10000}") int changeLogCapacity) {
+        if (!snapshotFile.isBlank() && Files.exists(Path.of(snapshotFile))) {
+            try {
+                final var employees = MockEmployeeSnapshotFile.read(Path.of(snapshotFile));
+                log.info("Loaded {} employees from snapshot {}", employees.size(), snapshotFile);
+                return new MockEmployeeRepository(employees, changeLogCapacity);
+            } catch (BufferUnderflowException
+                    | IllegalStateException
+                    | IllegalArgumentException
+                    | UncheckedIOException e) {
+                log.warn("Unreadable snapshot {}, generating a new dataset: {}", snapshotFile, e.toString());
+            }
+        }
+        final var employees = generateEmployees(faker, maxEmployees);
+        if (!snapshotFile.isBlank()) {
+            try {
+                MockEmployeeSnapshotFile.write(Path.of(snapshotFile), employees);
+                log.info("Saved {} generated employees to snapshot {}", employees.size(), snapshotFile);
+            } catch (UncheckedIOException e) {
+                log.warn("Cannot save generated employees to snapshot {}: {}", snapshotFile, e.toString());
+            }
+        }
+        return new MockEmployeeRepository(employees, changeLogCapacity);
+    }
+
+    private static List<MockEmployee> generateEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -49,11 +92,11 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .toList();
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(randomRequestLimitInterceptor).excludePathPatterns("/admin/**");
     }
 }
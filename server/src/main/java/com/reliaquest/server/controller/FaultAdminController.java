@@ -0,0 +1,39 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Runtime control of the injected faults. PUT activates a new profile (and restarts its RNG), DELETE goes back to
+ * the profile configured under mock.faults. Durations are ISO-8601, e.g. "PT0.25S".
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjectionService faultInjectionService;
+
+    @GetMapping()
+    public Response<FaultProfile> getProfile() {
+        return Response.handledWith(faultInjectionService.getProfile());
+    }
+
+    @PutMapping()
+    public Response<FaultProfile> updateProfile(@RequestBody FaultProfile profile) {
+        return Response.handledWith(faultInjectionService.update(profile));
+    }
+
+    @DeleteMapping()
+    public Response<FaultProfile> resetProfile() {
+        return Response.handledWith(faultInjectionService.reset());
+    }
+}
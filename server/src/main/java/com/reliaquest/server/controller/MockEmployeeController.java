@@ -1,15 +1,24 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.FindMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeFilter;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +26,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -25,10 +37,83 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
 
+    /*
+     * Both list representations carry a weak ETag of the dataset version; If-None-Match with the current one is
+     * answered with 304 and no body.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(WebRequest request) {
+        final var etag = currentETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /*
+     * Selected with Accept: application/x-ndjson. One employee per line, written straight from the repository
+     * so that neither the list nor the response body is materialized.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees(WebRequest request) {
+        final var etag = currentETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        final var writer =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream);
+                    var employees = mockEmployeeService.streamMockEmployees()) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                for (var iterator = employees.iterator(); iterator.hasNext(); ) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .eTag(etag)
+                .body(body);
+    }
+
+    /*
+     * Cursor-paged, filtered listing. Pass nextCursor from the previous page, together with the same filters, to
+     * get the following page.
+     */
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "minAge", required = false) Integer minAge,
+            @RequestParam(name = "maxAge", required = false) Integer maxAge,
+            @RequestParam(name = "title", required = false) String title) {
+        final var filter = new MockEmployeeFilter(name, minSalary, maxSalary, minAge, maxAge, title);
+        return Response.handledWith(mockEmployeeService.findPage(filter, size, cursor));
+    }
+
+    /*
+     * Change feed: creates and deletes after version `since`, oldest first. Without `since` only the current epoch
+     * and version are returned. 410 Gone when the changes are no longer in the bounded log or `epoch` belongs to an
+     * earlier server run; the client then reloads the full list.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestParam(name = "epoch", required = false) String epoch,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        return mockEmployeeService
+                .findChanges(since, epoch, limit)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes are no longer available, reload the employee list")));
     }
 
     @GetMapping("/{id}")
@@ -39,6 +124,14 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Looks up to FindMockEmployeesInput.MAX_IDS employees in one request. Unknown ids are missing from the map.
+     */
+    @PostMapping("/batch")
+    public Response<Map<UUID, MockEmployee>> findEmployees(@Valid @RequestBody FindMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.findByIds(input.getIds()));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -48,4 +141,10 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    // weak: JSON, CBOR and NDJSON bodies of the same version are equivalent but not byte-identical; the epoch
+    // keeps versions of different server runs apart
+    private String currentETag() {
+        return "W/\"%s-%d\"".formatted(mockEmployeeService.getEpoch(), mockEmployeeService.getVersion());
+    }
 }
@@ -3,6 +3,7 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -10,6 +11,18 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleIllegalArgument(IllegalArgumentException ex) {
+        log.warn("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        log.warn("Rejected web request body: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMostSpecificCause().getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
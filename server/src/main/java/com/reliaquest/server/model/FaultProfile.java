@@ -0,0 +1,107 @@
+package com.reliaquest.server.model;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Faults the mock server injects into employee API requests, bound from {@code mock.faults} and replaceable at
+ * runtime through {@code /admin/faults}. All draws come from one RNG seeded with {@code seed}, so that the same
+ * profile and the same request sequence produce the same faults; without a seed one is picked and logged.
+ *
+ * @param latency rules checked in order, the first matching one adds its delay
+ * @param errorRate share of requests answered with {@code errorStatus} instead of being handled
+ * @param slowDripRate share of responses written in {@code slowDripChunkBytes} chunks, one per
+ *     {@code slowDripInterval}
+ * @param dropRate share of responses cut off halfway through the body, after which the connection is closed
+ */
+@ConfigurationProperties("mock.faults")
+public record FaultProfile(
+        boolean enabled,
+        Long seed,
+        List<LatencyRule> latency,
+        double errorRate,
+        Integer errorStatus,
+        double slowDripRate,
+        Duration slowDripInterval,
+        Integer slowDripChunkBytes,
+        double dropRate) {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    public FaultProfile {
+        latency = latency == null ? List.of() : List.copyOf(latency);
+        errorStatus = errorStatus == null ? HttpStatus.SERVICE_UNAVAILABLE.value() : errorStatus;
+        slowDripInterval = slowDripInterval == null ? Duration.ofMillis(100) : slowDripInterval;
+        slowDripChunkBytes = slowDripChunkBytes == null ? 64 : slowDripChunkBytes;
+        requireRate("errorRate", errorRate);
+        requireRate("slowDripRate", slowDripRate);
+        requireRate("dropRate", dropRate);
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status: " + errorStatus);
+        }
+        if (slowDripChunkBytes < 1 || slowDripInterval.isNegative()) {
+            throw new IllegalArgumentException("slowDripChunkBytes must be positive, slowDripInterval not negative");
+        }
+    }
+
+    public static FaultProfile none() {
+        return new FaultProfile(false, null, null, 0, null, 0, null, null, 0);
+    }
+
+    public FaultProfile withSeed(long newSeed) {
+        return new FaultProfile(
+                enabled,
+                newSeed,
+                latency,
+                errorRate,
+                errorStatus,
+                slowDripRate,
+                slowDripInterval,
+                slowDripChunkBytes,
+                dropRate);
+    }
+
+    private static void requireRate(String name, double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1: " + rate);
+        }
+    }
+
+    /**
+     * Log-normal delay with the given median and 99th percentile for requests matching {@code method} (any if
+     * {@code null}) and the Ant-style {@code path}. Without {@code p99} the delay is always {@code median}.
+     */
+    public record LatencyRule(String method, String path, Duration median, Duration p99) {
+
+        // z-score of the 99th percentile of the standard normal distribution
+        private static final double Z_99 = 2.326;
+
+        public LatencyRule {
+            if (path == null || median == null || median.isNegative()) {
+                throw new IllegalArgumentException("Latency rule needs a path and a non-negative median");
+            }
+            if (p99 != null && p99.compareTo(median) < 0) {
+                throw new IllegalArgumentException("Latency rule p99 must not be below the median");
+            }
+        }
+
+        public boolean matches(String requestMethod, String requestPath) {
+            return (method == null || method.equalsIgnoreCase(requestMethod))
+                    && PATH_MATCHER.match(path, requestPath);
+        }
+
+        /**
+         * @param gaussian a draw from the standard normal distribution
+         */
+        public Duration sample(double gaussian) {
+            if (p99 == null || p99.equals(median) || median.isZero()) {
+                return median;
+            }
+            final var sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+            return Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * gaussian)));
+        }
+    }
+}
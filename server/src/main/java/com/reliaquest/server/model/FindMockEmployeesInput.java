@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class FindMockEmployeesInput {
+
+    public static final int MAX_IDS = 1000;
+
+    @NotNull @Size(max = MAX_IDS)
+    private List<UUID> ids;
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the change log. {@code sequence} is the dataset version the change produced; a deleted employee
+ * is reported as it was stored.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
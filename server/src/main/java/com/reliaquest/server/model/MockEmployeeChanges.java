@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes after the requested version in sequence order. {@code latest} is the dataset version the answer is
+ * complete up to once {@code changes} are exhausted, so the next request passes {@code since} = the last change's
+ * sequence (or {@code latest} when there were none). {@code epoch} identifies the dataset across server restarts.
+ */
+public record MockEmployeeChanges(String epoch, List<MockEmployeeChange> changes, long latest) {}
@@ -0,0 +1,38 @@
+package com.reliaquest.server.model;
+
+import java.util.Locale;
+
+/**
+ * Optional criteria of the paged employee listing; {@code null} fields do not filter. Name and title match
+ * case-insensitive fragments, salary and age ranges are inclusive.
+ */
+public record MockEmployeeFilter(
+        String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, String title) {
+
+    public MockEmployeeFilter {
+        name = lowerCaseOrNull(name);
+        title = lowerCaseOrNull(title);
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return contains(employee.getName(), name)
+                && contains(employee.getTitle(), title)
+                && within(employee.getSalary(), minSalary, maxSalary)
+                && within(employee.getAge(), minAge, maxAge);
+    }
+
+    private static boolean contains(String value, String fragment) {
+        return fragment == null || (value != null && value.toLowerCase(Locale.ROOT).contains(fragment));
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static String lowerCaseOrNull(String value) {
+        return value == null || value.isBlank() ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
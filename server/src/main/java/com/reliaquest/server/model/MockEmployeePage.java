@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of the employee listing. {@code nextCursor} is an opaque token to pass back for the following
+ * page, {@code null} on the last page.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, String nextCursor) {}
@@ -0,0 +1,225 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import lombok.NonNull;
+
+/**
+ * Thread-safe in-memory store of mock employees.
+ * <p>
+ * Employees are kept in a map ordered by insertion sequence (list endpoint), with a hash index from id to
+ * sequence (lookup by id) and a case-insensitive index from name to the sequences carrying that name (delete
+ * by name removes the oldest match, as the list-based implementation did). Reads never lock; writes are
+ * serialized so that the three maps always change together.
+ * <p>
+ * {@link #version()} grows with every change and is bumped only after the maps have changed, so that a reader
+ * that takes the version before reading never pairs a newer version with older data. The last
+ * {@code changeLogCapacity} changes are kept, keyed by the version they produced, for {@link #findChangesSince}.
+ * The employees an instance is seeded with are its starting state, not changes: the version starts at 0.
+ */
+public class MockEmployeeRepository {
+
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Long> sequenceById = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Long>> sequencesByName = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, MockEmployeeChange> changes = new ConcurrentSkipListMap<>();
+    private final int changeLogCapacity;
+    // versions restart with every instance, the epoch tells them apart
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+    private long nextSequence;
+    private volatile long version;
+
+    public MockEmployeeRepository() {
+        this(List.of(), DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public MockEmployeeRepository(@NonNull Collection<MockEmployee> mockEmployees) {
+        this(mockEmployees, DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public MockEmployeeRepository(@NonNull Collection<MockEmployee> mockEmployees, int changeLogCapacity) {
+        if (changeLogCapacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be positive: " + changeLogCapacity);
+        }
+        this.changeLogCapacity = changeLogCapacity;
+        mockEmployees.forEach(this::insert);
+    }
+
+    /**
+     * @return snapshot of all employees in insertion order.
+     */
+    public List<MockEmployee> findAll() {
+        return List.copyOf(bySequence.values());
+    }
+
+    /**
+     * @return lazy, weakly consistent view of all employees in insertion order; nothing is copied.
+     */
+    public Stream<MockEmployee> stream() {
+        return bySequence.values().stream();
+    }
+
+    /**
+     * Scans employees inserted after {@code afterSequence} in insertion order, stopping once {@code limit}
+     * matches are found. Positions are insertion sequences, so a scan resumed from the last returned position
+     * neither skips nor repeats employees when others are created or deleted in between.
+     *
+     * @param afterSequence position to resume after, {@code null} to start from the oldest employee
+     */
+    public Slice findAfter(Long afterSequence, int limit, @NonNull Predicate<MockEmployee> filter) {
+        final var tail = afterSequence == null ? bySequence : bySequence.tailMap(afterSequence, false);
+        final var employees = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        Long lastSequence = null;
+        for (final var entry : tail.entrySet()) {
+            if (!filter.test(entry.getValue())) {
+                continue;
+            }
+            if (employees.size() == limit) {
+                return new Slice(employees, lastSequence, true);
+            }
+            employees.add(entry.getValue());
+            lastSequence = entry.getKey();
+        }
+        return new Slice(employees, lastSequence, false);
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var sequence = sequenceById.get(id);
+        return sequence == null ? Optional.empty() : Optional.ofNullable(bySequence.get(sequence));
+    }
+
+    public int size() {
+        return bySequence.size();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * @return up to {@code limit} changes made after version {@code since} and up to {@code upTo}, in order;
+     *     empty if some of them have already been dropped from the log.
+     */
+    public Optional<List<MockEmployeeChange>> findChangesSince(long since, long upTo, int limit) {
+        if (since == upTo) {
+            return Optional.of(List.of());
+        }
+        final var found = changes.subMap(since, false, upTo, true).values().stream()
+                .limit(limit)
+                .toList();
+        // the first change may have been trimmed before, or while, it was read
+        if (found.isEmpty() || found.get(0).sequence() != since + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(found);
+    }
+
+    /**
+     * Appends the employee, replacing any stored employee with the same id.
+     */
+    public synchronized MockEmployee save(@NonNull MockEmployee mockEmployee) {
+        insert(mockEmployee).ifPresent(replaced -> recordChange(MockEmployeeChange.Type.DELETED, replaced));
+        recordChange(MockEmployeeChange.Type.CREATED, mockEmployee);
+        return mockEmployee;
+    }
+
+    /**
+     * Removes the oldest employee whose name equals {@code name}, ignoring case.
+     *
+     * @return the removed employee, empty if no employee has that name.
+     */
+    public synchronized Optional<MockEmployee> deleteFirstByName(@NonNull String name) {
+        final var sequences = sequencesByName.get(nameKey(name));
+        if (sequences == null || sequences.isEmpty()) {
+            return Optional.empty();
+        }
+        final var removed = remove(sequences.first());
+        if (removed != null) {
+            recordChange(MockEmployeeChange.Type.DELETED, removed);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * Result of {@link #findAfter}: the matches, the position of the last one and whether more matches follow.
+     */
+    public record Slice(List<MockEmployee> employees, Long lastSequence, boolean hasMore) {}
+
+    // changes the maps only, the caller records the change; returns the employee with the same id it replaced
+    private Optional<MockEmployee> insert(MockEmployee mockEmployee) {
+        MockEmployee replaced = null;
+        if (mockEmployee.getId() != null) {
+            final var previous = sequenceById.get(mockEmployee.getId());
+            if (previous != null) {
+                replaced = remove(previous);
+            }
+        }
+        final var sequence = nextSequence++;
+        bySequence.put(sequence, mockEmployee);
+        if (mockEmployee.getId() != null) {
+            sequenceById.put(mockEmployee.getId(), sequence);
+        }
+        final var nameKey = nameKey(mockEmployee.getName());
+        if (nameKey != null) {
+            sequencesByName
+                    .computeIfAbsent(nameKey, ignored -> new ConcurrentSkipListSet<>())
+                    .add(sequence);
+        }
+        return Optional.ofNullable(replaced);
+    }
+
+    // changes the maps only, the caller records the change
+    private MockEmployee remove(long sequence) {
+        final var removed = bySequence.remove(sequence);
+        if (removed == null) {
+            return null;
+        }
+        if (removed.getId() != null) {
+            sequenceById.remove(removed.getId(), sequence);
+        }
+        final var nameKey = nameKey(removed.getName());
+        if (nameKey != null) {
+            final var sequences = sequencesByName.get(nameKey);
+            sequences.remove(sequence);
+            if (sequences.isEmpty()) {
+                sequencesByName.remove(nameKey);
+            }
+        }
+        return removed;
+    }
+
+    // the change is logged before the version that exposes it is published
+    private void recordChange(MockEmployeeChange.Type type, MockEmployee employee) {
+        final var next = version + 1;
+        changes.put(next, new MockEmployeeChange(next, type, employee));
+        if (next > changeLogCapacity) {
+            changes.remove(next - changeLogCapacity);
+        }
+        version = next;
+    }
+
+    private static String nameKey(String name) {
+        return Objects.isNull(name) ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
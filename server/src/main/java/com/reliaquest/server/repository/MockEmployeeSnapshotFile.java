@@ -0,0 +1,58 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.snapshot.EmployeeSnapshotFormat;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Saves a mock employee dataset so that a restart can load the same employees instead of generating new ones.
+ * The file layout is {@link EmployeeSnapshotFormat}, shared with the API's cache ({@code EmployeeSnapshotFile}).
+ */
+public final class MockEmployeeSnapshotFile {
+
+    private MockEmployeeSnapshotFile() {}
+
+    /**
+     * @throws IllegalStateException     if {@code path} is not a snapshot file of a supported version, or is
+     *                                   truncated
+     * @throws BufferUnderflowException  if an employee record ends past the end of the file
+     * @throws IllegalArgumentException  if an id is not a UUID
+     * @throws UncheckedIOException      if {@code path} cannot be read
+     */
+    public static List<MockEmployee> read(Path path) {
+        return EmployeeSnapshotFormat.read(path).employees().stream()
+                .map(entry -> MockEmployee.builder()
+                        .id(entry.id() == null ? null : UUID.fromString(entry.id()))
+                        .name(entry.name())
+                        .salary(entry.salary())
+                        .age(entry.age())
+                        .title(entry.title())
+                        .email(entry.email())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * @throws UncheckedIOException if {@code path} cannot be written
+     */
+    public static void write(Path path, Collection<MockEmployee> employees) {
+        EmployeeSnapshotFormat.write(
+                path,
+                Instant.now(),
+                employees.stream()
+                        .map(employee -> new EmployeeSnapshotFormat.Entry(
+                                employee.getId() == null ? null : employee.getId().toString(),
+                                employee.getName(),
+                                employee.getSalary(),
+                                employee.getAge(),
+                                employee.getTitle(),
+                                employee.getEmail()))
+                        .toList());
+    }
+}
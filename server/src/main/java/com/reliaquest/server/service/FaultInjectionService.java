@@ -0,0 +1,88 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class FaultInjectionService {
+
+    private final FaultProfile configured;
+    private final AtomicReference<State> state = new AtomicReference<>();
+
+    public FaultInjectionService(FaultProfile configured) {
+        this.configured = configured;
+        update(configured);
+    }
+
+    public FaultProfile getProfile() {
+        return state.get().profile();
+    }
+
+    /**
+     * Activates the profile and restarts the RNG from its seed.
+     */
+    public FaultProfile update(@NonNull FaultProfile profile) {
+        final var seeded = profile.seed() == null ? profile.withSeed(new Random().nextLong()) : profile;
+        state.set(new State(seeded, new Random(seeded.seed())));
+        log.info("Fault profile active: {}", seeded);
+        return seeded;
+    }
+
+    public FaultProfile reset() {
+        return update(configured);
+    }
+
+    /*
+     * Draws the faults for one request. The RNG is consumed in the same order for every request so that, for a
+     * given seed, the n-th request always gets the same faults.
+     */
+    public Fault next(String method, String path) {
+        final var current = state.get();
+        final var profile = current.profile();
+        if (!profile.enabled()) {
+            return Fault.NONE;
+        }
+        final double gaussian;
+        final double error;
+        final double slowDrip;
+        final double drop;
+        synchronized (current.random()) {
+            gaussian = current.random().nextGaussian();
+            error = current.random().nextDouble();
+            slowDrip = current.random().nextDouble();
+            drop = current.random().nextDouble();
+        }
+        final var latency = profile.latency().stream()
+                .filter(rule -> rule.matches(method, path))
+                .findFirst()
+                .map(rule -> rule.sample(gaussian))
+                .orElse(Duration.ZERO);
+        return new Fault(
+                latency,
+                error < profile.errorRate() ? profile.errorStatus() : null,
+                slowDrip < profile.slowDripRate(),
+                drop < profile.dropRate(),
+                profile);
+    }
+
+    private record State(FaultProfile profile, Random random) {}
+
+    /**
+     * @param errorStatus status to answer with instead of handling the request, {@code null} to handle it
+     */
+    public record Fault(
+            Duration latency, Integer errorStatus, boolean slowDrip, boolean drop, FaultProfile profile) {
+
+        public static final Fault NONE = new Fault(Duration.ZERO, null, false, false, FaultProfile.none());
+
+        public boolean rewritesBody() {
+            return slowDrip || drop;
+        }
+    }
+}
@@ -4,11 +4,17 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeFilter;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +26,98 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_CHANGES = 1000;
+
     private final Faker faker;
+    private final MockEmployeeRepository mockEmployeeRepository;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeRepository.findAll();
+    }
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /**
+     * @return number that changes whenever an employee is created or deleted; read it before the employees.
+     */
+    public long getVersion() {
+        return mockEmployeeRepository.version();
+    }
+
+    /**
+     * @return identifier of this server's dataset; versions are only comparable within one epoch.
+     */
+    public String getEpoch() {
+        return mockEmployeeRepository.epoch();
+    }
+
+    /**
+     * @param since version the caller is up to date with, {@code null} to only learn the current version.
+     * @param epoch epoch {@code since} belongs to, {@code null} to skip the check.
+     * @return the changes after {@code since}; empty if they cannot be served (dropped from the bounded log,
+     *     another epoch or a version from the future), in which case the caller has to reload the full list.
+     * @throws IllegalArgumentException if {@code limit} is out of range.
+     */
+    public Optional<MockEmployeeChanges> findChanges(Long since, String epoch, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CHANGES);
+        }
+        final var latest = mockEmployeeRepository.version();
+        final var currentEpoch = mockEmployeeRepository.epoch();
+        if (since == null) {
+            return Optional.of(new MockEmployeeChanges(currentEpoch, List.of(), latest));
+        }
+        if ((epoch != null && !epoch.equals(currentEpoch)) || since < 0 || since > latest) {
+            log.debug(
+                    "Changes since={} epoch={} unavailable, current epoch={} version={}",
+                    since,
+                    epoch,
+                    currentEpoch,
+                    latest);
+            return Optional.empty();
+        }
+        return mockEmployeeRepository
+                .findChangesSince(since, latest, limit)
+                .map(changes -> new MockEmployeeChanges(currentEpoch, changes, latest));
+    }
+
+    public Stream<MockEmployee> streamMockEmployees() {
+        return mockEmployeeRepository.stream();
+    }
+
+    /**
+     * @param cursor {@link MockEmployeePage#nextCursor()} of the previous page, {@code null} for the first page
+     * @throws IllegalArgumentException if {@code size} is out of range or {@code cursor} is invalid.
+     */
+    public MockEmployeePage findPage(@NonNull MockEmployeeFilter filter, int size, String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        final var slice = mockEmployeeRepository.findAfter(PageCursor.decode(cursor), size, filter::matches);
+        final var nextCursor = slice.hasMore() ? PageCursor.encode(slice.lastSequence()) : null;
+        log.debug(
+                "Page size={} filter={} -> {} employees, more={}",
+                size,
+                filter,
+                slice.employees().size(),
+                slice.hasMore());
+        return new MockEmployeePage(slice.employees(), nextCursor);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeRepository.findById(uuid);
+    }
+
+    /**
+     * @return the employees found for {@code ids}, keyed by id in request order; unknown ids are left out.
+     */
+    public Map<UUID, MockEmployee> findByIds(@NonNull Collection<UUID> ids) {
+        final var found = new LinkedHashMap<UUID, MockEmployee>();
+        for (final var id : ids) {
+            if (id != null && !found.containsKey(id)) {
+                mockEmployeeRepository.findById(id).ifPresent(employee -> found.put(id, employee));
+            }
+        }
+        return found;
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +125,14 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeRepository.save(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        final var mockEmployee = mockEmployeeRepository.deleteFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
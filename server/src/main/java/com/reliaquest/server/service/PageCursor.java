@@ -0,0 +1,40 @@
+package com.reliaquest.server.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of the paged listing: the URL-safe Base64 form of the repository position of
+ * the last returned employee. Clients must treat it as an opaque string.
+ */
+final class PageCursor {
+
+    private static final String PREFIX = "v1:";
+
+    private PageCursor() {}
+
+    static String encode(long sequence) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + sequence).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the position encoded in {@code cursor}, {@code null} for the first page.
+     * @throws IllegalArgumentException if the cursor was not issued by {@link #encode(long)}.
+     */
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) { // also NumberFormatException
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, ex);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import com.reliaquest.server.service.FaultInjectionService.Fault;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/*
+ * Applies the faults drawn by FaultInjectionService: latency before the request is handled, an error status
+ * instead of handling it, and a slowly dripped or cut-off response body. Bodies are only rewritten for buffered
+ * responses, the NDJSON stream gets latency and errors only. /admin requests are never faulted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjectionService faultInjectionService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var fault = faultInjectionService.next(request.getMethod(), request.getRequestURI());
+        if (fault == Fault.NONE) {
+            chain.doFilter(request, response);
+            return;
+        }
+        sleep(fault.latency());
+        if (fault.errorStatus() != null) {
+            log.debug("Injected fault: {} {} -> {}", request.getMethod(), request.getRequestURI(), fault.errorStatus());
+            response.setStatus(fault.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return;
+        }
+        if (!fault.rewritesBody() || isStreaming(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final var buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        final var body = buffered.getContentAsByteArray();
+        final var length = fault.drop() ? body.length / 2 : body.length;
+        response.setContentLength(body.length);
+        if (fault.drop()) {
+            // the client sees the declared length, half the body and then the connection going away
+            log.debug(
+                    "Injected fault: {} {} -> dropped after {} bytes",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    length);
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+        }
+        final var out = response.getOutputStream();
+        final var chunk = fault.slowDrip() ? fault.profile().slowDripChunkBytes() : Math.max(length, 1);
+        for (int offset = 0; offset < length; offset += chunk) {
+            if (offset > 0) {
+                sleep(fault.profile().slowDripInterval());
+            }
+            out.write(body, offset, Math.min(chunk, length - offset));
+            out.flush();
+        }
+    }
+
+    private static boolean isStreaming(HttpServletRequest request) {
+        final var accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    private static void sleep(Duration duration) throws InterruptedIOException {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+}
@@ -4,45 +4,170 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.random.RandomGenerator;
-import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/*
+ * Each client may make mock.rate-limit.limit requests; the request that uses up the budget starts a backoff of
+ * mock.rate-limit.backoff during which every request is rejected with 429, after which the budget is full again.
+ * Both default to a random value per server start. Budgets are kept per X-Client-Id header (falling back to the
+ * remote address) with mock.rate-limit.per-client=true, otherwise one budget is shared by all callers. At most
+ * mock.rate-limit.max-clients budgets are kept; beyond that the least recently seen clients are forgotten, a tenth
+ * of the budgets at a time so that the scan for them is paid once per many new clients.
+ *
+ * Every response carries X-RateLimit-Limit and X-RateLimit-Remaining, a 429 also Retry-After (seconds).
+ */
+@Slf4j
+@Component
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final boolean enabled;
+    private final int limit;
+    private final Duration backoff;
+    private final boolean perClient;
+    private final int maxClients;
+
+    // the one budget of all callers, null with per-client budgets
+    private final AtomicReference<RequestLimit> sharedLimit;
+    private final Map<String, ClientLimit> clientLimits = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RandomRequestLimitInterceptor(
+            @Value("${mock.rate-limit.enabled:true}") boolean enabled,
+            @Value("${mock.rate-limit.limit:${random.int[5,10]}}") int limit,
+            @Value("${mock.rate-limit.backoff:${random.int[30,90]}s}") Duration backoff,
+            @Value("${mock.rate-limit.per-client:false}") boolean perClient,
+            @Value("${mock.rate-limit.max-clients:10000}") int maxClients) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("mock.rate-limit.limit must be positive: " + limit);
+        }
+        if (maxClients < 1) {
+            throw new IllegalArgumentException("mock.rate-limit.max-clients must be positive: " + maxClients);
+        }
+        this.enabled = enabled;
+        this.limit = limit;
+        this.backoff = backoff;
+        this.perClient = perClient;
+        this.maxClients = maxClients;
+        this.sharedLimit = perClient ? null : new AtomicReference<>(RequestLimit.init());
+        log.info("Request limit enabled={} limit={} backoff={} perClient={}", enabled, limit, backoff, perClient);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
+        if (!enabled) {
+            return true;
+        }
+        final var now = Instant.now();
+        final var requestLimit = acquire(perClient ? clientLimit(request) : sharedLimit, now);
+        response.setHeader(LIMIT_HEADER, Integer.toString(limit));
+        response.setHeader(REMAINING_HEADER, Integer.toString(Math.max(0, limit - requestLimit.count())));
+        if (requestLimit.rejected()) {
+            final var retryAfter = Duration.between(now, requestLimit.resetsAt());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ceilSeconds(retryAfter)));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+
+    /*
+     * Lock-free: the budget is an immutable record swapped with compareAndSet, so that concurrent requests can
+     * neither overshoot the limit nor lose a reset.
+     */
+    private RequestLimit acquire(AtomicReference<RequestLimit> reference, Instant now) {
+        while (true) {
+            final var current = reference.get();
+            final var budget = current.expired(now) ? RequestLimit.init() : current;
+            if (budget.count() >= limit) {
+                return budget.reject();
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            final var count = budget.count() + 1;
+            final var next = new RequestLimit(count, count >= limit ? now.plus(backoff) : null, false);
+            if (reference.compareAndSet(current, next)) {
+                return next;
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
+    }
 
-        return true;
+    /*
+     * computeIfAbsent only locks the bin of a new client; a known client is a plain read plus a volatile write of
+     * its own last-seen time, which eviction orders by.
+     */
+    private AtomicReference<RequestLimit> clientLimit(HttpServletRequest request) {
+        final var clientId = request.getHeader(CLIENT_ID_HEADER);
+        final var key = clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+        var clientLimit = clientLimits.get(key);
+        if (clientLimit == null) {
+            clientLimit = clientLimits.computeIfAbsent(key, ignored -> new ClientLimit());
+            if (clientLimits.size() > maxClients) {
+                evictLeastRecentlySeen(key);
+            }
+        }
+        clientLimit.lastSeen = System.nanoTime();
+        return clientLimit.limit;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
+    /*
+     * One request evicts at a time, the others carry on over the limit meanwhile; the client that triggered it is
+     * never evicted.
+     */
+    private void evictLeastRecentlySeen(String newKey) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final var excess = clientLimits.size() - maxClients;
+            if (excess <= 0) {
+                return;
+            }
+            clientLimits.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(newKey))
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeen))
+                    .limit(excess + maxClients / 10)
+                    .toList()
+                    .forEach(entry -> clientLimits.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static long ceilSeconds(Duration duration) {
+        return Math.max(1, (duration.toMillis() + 999) / 1000);
+    }
+
+    private static final class ClientLimit {
+        final AtomicReference<RequestLimit> limit = new AtomicReference<>(RequestLimit.init());
+        volatile long lastSeen = System.nanoTime();
+    }
+
+    /*
+     * resetsAt is set once the budget is used up.
+     */
+    private record RequestLimit(int count, Instant resetsAt, boolean rejected) {
+        static RequestLimit init() {
+            return new RequestLimit(0, null, false);
+        }
+
+        boolean expired(Instant now) {
+            return resetsAt != null && !now.isBefore(resetsAt);
+        }
+
+        RequestLimit reject() {
+            return new RequestLimit(count, resetsAt, true);
         }
     }
 }
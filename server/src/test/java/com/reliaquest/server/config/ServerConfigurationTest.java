@@ -0,0 +1,94 @@
+package com.reliaquest.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeSnapshotFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServerConfigurationTest {
+
+    private final ServerConfiguration configuration = new ServerConfiguration(null);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void mockEmployeeRepository_loadsTheSavedSnapshot() {
+        final var file = dir.resolve("employees.bin");
+        final var first = configuration.mockEmployeeRepository(new Faker(), 5, file.toString(), 100);
+
+        final var second = configuration.mockEmployeeRepository(new Faker(), 5, file.toString(), 100);
+
+        assertThat(second.findAll()).isEqualTo(first.findAll());
+    }
+
+    @Test
+    void mockEmployeeRepository_truncatedSnapshot_isRegeneratedAndOverwritten() throws Exception {
+        final var file = saved();
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file), (int) Files.size(file) - 3));
+
+        final var repository = configuration.mockEmployeeRepository(new Faker(), 5, file.toString(), 100);
+
+        assertThat(repository.size()).isEqualTo(5);
+        assertThat(MockEmployeeSnapshotFile.read(file)).isEqualTo(repository.findAll());
+    }
+
+    @Test
+    void mockEmployeeRepository_snapshotWithMalformedId_isRegeneratedAndOverwritten() throws Exception {
+        final var file = saved();
+        final var bytes = Files.readAllBytes(file);
+        bytes[24] = 'x'; // first character of the first id
+        Files.write(file, bytes);
+
+        final var repository = configuration.mockEmployeeRepository(new Faker(), 5, file.toString(), 100);
+
+        assertThat(repository.size()).isEqualTo(5);
+        assertThat(MockEmployeeSnapshotFile.read(file)).isEqualTo(repository.findAll());
+    }
+
+    @Test
+    void mockEmployeeRepository_snapshotWithCorruptLength_isRegeneratedAndOverwritten() throws Exception {
+        final var file = saved();
+        final var bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(20, Integer.MAX_VALUE); // length of the first id
+        Files.write(file, bytes);
+
+        final var repository = configuration.mockEmployeeRepository(new Faker(), 5, file.toString(), 100);
+
+        assertThat(repository.size()).isEqualTo(5);
+        assertThat(MockEmployeeSnapshotFile.read(file)).isEqualTo(repository.findAll());
+    }
+
+    @Test
+    void mockEmployeeRepository_unreadableSnapshot_isRegenerated() throws Exception {
+        final var directory = Files.createDirectories(dir.resolve("employees.bin"));
+
+        final var repository = configuration.mockEmployeeRepository(new Faker(), 5, directory.toString(), 100);
+
+        assertThat(repository.size()).isEqualTo(5);
+    }
+
+    private Path saved() {
+        final var file = dir.resolve("employees.bin");
+        MockEmployeeSnapshotFile.write(
+                file,
+                List.of(MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Tiger Nixon")
+                        .salary(320800)
+                        .age(61)
+                        .title("Vice Chair")
+                        .email("tnixon@company.com")
+                        .build()));
+        return file;
+    }
+}
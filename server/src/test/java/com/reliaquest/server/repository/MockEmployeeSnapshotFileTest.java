@@ -0,0 +1,50 @@
+package com.reliaquest.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.snapshot.EmployeeSnapshotFormat;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The mapping of mock employees onto {@link EmployeeSnapshotFormat}; the byte layout is pinned by its own test.
+ */
+class MockEmployeeSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeThenRead_roundTripsEmployees() {
+        final var employees = List.of(
+                MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Tiger Nixon")
+                        .salary(320800)
+                        .age(61)
+                        .title("Vice Chair")
+                        .email("tnixon@company.com")
+                        .build(),
+                MockEmployee.builder().name("Zoë Ångström").age(30).build());
+        final var file = dir.resolve("employees.bin");
+
+        MockEmployeeSnapshotFile.write(file, employees);
+
+        assertThat(MockEmployeeSnapshotFile.read(file)).isEqualTo(employees);
+    }
+
+    @Test
+    void read_rejectsIdsThatAreNotUuids() {
+        final var file = dir.resolve("employees.bin");
+        EmployeeSnapshotFormat.write(
+                file, Instant.now(), List.of(new EmployeeSnapshotFormat.Entry("1", "Tiger Nixon", 1, 61, null, null)));
+
+        assertThatThrownBy(() -> MockEmployeeSnapshotFile.read(file)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
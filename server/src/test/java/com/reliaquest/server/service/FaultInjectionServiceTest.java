@@ -0,0 +1,101 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultProfile.LatencyRule;
+import com.reliaquest.server.service.FaultInjectionService.Fault;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectionServiceTest {
+
+    private static final String PATH = "/api/v1/employee";
+    private static final int REQUESTS = 20_000;
+
+    private static final LatencyRule LATENCY = new LatencyRule("GET", "/api/v1/employee/**", ms(20), ms(250));
+
+    @Test
+    void next_sameSeed_drawsTheSameFaultsAndLatencies() {
+        final var profile = profile(42L, 0.2, 0.1, 0.05);
+
+        final var first = draw(new FaultInjectionService(profile), 1000);
+        final var second = draw(new FaultInjectionService(profile), 1000);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void reset_restartsTheSequenceFromTheSeed() {
+        final var service = new FaultInjectionService(profile(7L, 0.3, 0.3, 0.3));
+        final var before = draw(service, 100);
+
+        service.reset();
+
+        assertThat(draw(service, 100)).isEqualTo(before);
+    }
+
+    @Test
+    void next_honoursTheConfiguredRates() {
+        final var faults = draw(new FaultInjectionService(profile(1L, 0.2, 0.1, 0.05)), REQUESTS);
+
+        assertThat(share(faults, fault -> fault.errorStatus() != null)).isCloseTo(0.2, within(0.02));
+        assertThat(share(faults, Fault::slowDrip)).isCloseTo(0.1, within(0.02));
+        assertThat(share(faults, Fault::drop)).isCloseTo(0.05, within(0.02));
+        assertThat(faults)
+                .filteredOn(fault -> fault.errorStatus() != null)
+                .extracting(Fault::errorStatus)
+                .containsOnly(503);
+    }
+
+    @Test
+    void next_latencyFollowsTheRuleMedianAndP99() {
+        final var latencies = draw(new FaultInjectionService(profile(3L, 0, 0, 0)), REQUESTS).stream()
+                .mapToLong(fault -> fault.latency().toNanos())
+                .sorted()
+                .toArray();
+
+        assertThat(latencies[REQUESTS / 2]).isCloseTo(ms(20).toNanos(), within(ms(2).toNanos()));
+        assertThat(latencies[REQUESTS * 99 / 100]).isCloseTo(ms(250).toNanos(), within(ms(40).toNanos()));
+    }
+
+    @Test
+    void next_disabledProfileOrUnmatchedPath_injectsNothing() {
+        final var enabled = new FaultInjectionService(profile(1L, 1, 0, 0));
+        final var disabled = new FaultInjectionService(FaultProfile.none().withSeed(1L));
+
+        assertThat(disabled.next("GET", PATH)).isEqualTo(Fault.NONE);
+        assertThat(enabled.next("DELETE", PATH).latency()).isZero();
+        assertThat(enabled.next("GET", "/admin/faults").latency()).isZero();
+    }
+
+    @Test
+    void sample_mapsGaussianQuantilesOntoMedianAndP99() {
+        assertThat(LATENCY.sample(0)).isEqualTo(ms(20));
+        assertThat(LATENCY.sample(2.326).toNanos()).isCloseTo(ms(250).toNanos(), within(ms(1).toNanos()));
+        assertThat(LATENCY.sample(-2.326).toNanos()).isLessThan(ms(20).toNanos());
+        assertThat(new LatencyRule(null, "/**", ms(20), null).sample(3)).isEqualTo(ms(20));
+    }
+
+    private static FaultProfile profile(Long seed, double errorRate, double slowDripRate, double dropRate) {
+        return new FaultProfile(true, seed, List.of(LATENCY), errorRate, null, slowDripRate, null, null, dropRate);
+    }
+
+    private static List<Fault> draw(FaultInjectionService service, int requests) {
+        return IntStream.range(0, requests)
+                .mapToObj(i -> service.next("GET", PATH + "/" + i))
+                .toList();
+    }
+
+    private static double share(List<Fault> faults, Predicate<Fault> test) {
+        return (double) faults.stream().filter(test).count() / faults.size();
+    }
+
+    private static Duration ms(long millis) {
+        return Duration.ofMillis(millis);
+    }
+}
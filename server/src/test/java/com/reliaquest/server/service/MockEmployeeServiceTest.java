@@ -0,0 +1,120 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeFilter;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final MockEmployeeFilter NO_FILTER = new MockEmployeeFilter(null, null, null, null, null, null);
+
+    private MockEmployeeRepository repository;
+    private MockEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MockEmployeeRepository(IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> employee("Employee " + i, 1000 * i))
+                .toList());
+        service = new MockEmployeeService(new Faker(), repository);
+    }
+
+    @Test
+    void findPage_walksAllEmployeesInOrderWithoutGapsOrDuplicates() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockEmployeePage page = service.findPage(NO_FILTER, 10, cursor);
+            page.employees().forEach(employee -> names.add(employee.getName()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(names)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 25)
+                        .mapToObj(i -> "Employee " + i)
+                        .toList());
+    }
+
+    @Test
+    void findPage_filtersBeforePaging() {
+        MockEmployeeFilter wellPaid = new MockEmployeeFilter(null, 20_000, null, null, null, null);
+
+        MockEmployeePage first = service.findPage(wellPaid, 4, null);
+        MockEmployeePage second = service.findPage(wellPaid, 4, first.nextCursor());
+
+        assertThat(first.employees())
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(20_000, 21_000, 22_000, 23_000);
+        assertThat(second.employees()).extracting(MockEmployee::getSalary).containsExactly(24_000, 25_000);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void findPage_cursorSurvivesDeletionOfTheLastReturnedEmployee() {
+        MockEmployeePage first = service.findPage(NO_FILTER, 5, null);
+        repository.deleteFirstByName(first.employees().get(4).getName());
+
+        MockEmployeePage second = service.findPage(NO_FILTER, 5, first.nextCursor());
+
+        assertThat(second.employees()).first().extracting(MockEmployee::getName).isEqualTo("Employee 6");
+    }
+
+    @Test
+    void findPage_rejectsSizesOutsideOneToMaxPageSize() {
+        assertThatThrownBy(() -> service.findPage(NO_FILTER, 0, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.findPage(NO_FILTER, MockEmployeeService.MAX_PAGE_SIZE + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.findPage(NO_FILTER, MockEmployeeService.MAX_PAGE_SIZE, null).employees())
+                .hasSize(25);
+    }
+
+    @Test
+    void findPage_rejectsCursorsItDidNotIssue() {
+        assertThatThrownBy(() -> service.findPage(NO_FILTER, 10, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid page cursor");
+    }
+
+    @Test
+    void findChanges_seededEmployeesAreTheStartingStateNotChanges() {
+        assertThat(service.getVersion()).isZero();
+        assertThat(service.findChanges(0L, service.getEpoch(), 10))
+                .hasValueSatisfying(changes -> assertThat(changes.changes()).isEmpty());
+
+        repository.deleteFirstByName("Employee 1");
+
+        assertThat(service.findChanges(0L, service.getEpoch(), 10))
+                .hasValueSatisfying(changes -> assertThat(changes.changes())
+                        .singleElement()
+                        .satisfies(change -> {
+                            assertThat(change.sequence()).isEqualTo(1);
+                            assertThat(change.type()).isEqualTo(MockEmployeeChange.Type.DELETED);
+                        }));
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
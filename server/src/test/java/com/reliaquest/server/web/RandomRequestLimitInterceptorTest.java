@@ -0,0 +1,94 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    private static final int LIMIT = 50;
+    private static final int CLIENTS = 8;
+
+    @Test
+    void preHandle_concurrentRequests_admitExactlyTheBudgetOfEachClient() throws Exception {
+        final var interceptor = new RandomRequestLimitInterceptor(true, LIMIT, Duration.ofMinutes(5), true, 100);
+        final var threads = 16;
+        final var requestsPerThread = 100; // 1600 requests, 200 per client: 4x the budget
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        try {
+            final List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    final var admitted = new int[CLIENTS];
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        final var client = i % CLIENTS;
+                        if (interceptor.preHandle(request("client-" + client), new MockHttpServletResponse(), null)) {
+                            admitted[client]++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+
+            final var admitted = new int[CLIENTS];
+            for (final var result : results) {
+                final var counts = result.get(10, TimeUnit.SECONDS);
+                for (int client = 0; client < CLIENTS; client++) {
+                    admitted[client] += counts[client];
+                }
+            }
+            assertThat(admitted).containsOnly(LIMIT);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void preHandle_beyondMaxClients_forgetsTheLeastRecentlySeenClient() {
+        final var interceptor = new RandomRequestLimitInterceptor(true, 1, Duration.ofMinutes(5), true, 2);
+        assertThat(status(interceptor, "a")).isEqualTo(HttpStatus.OK.value());
+        assertThat(status(interceptor, "b")).isEqualTo(HttpStatus.OK.value());
+        assertThat(status(interceptor, "a")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value()); // a is now newest
+
+        assertThat(status(interceptor, "c")).isEqualTo(HttpStatus.OK.value()); // evicts b
+
+        assertThat(status(interceptor, "a")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(status(interceptor, "b")).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void preHandle_withoutPerClientBudgets_sharesOneBudgetBetweenAllCallers() {
+        final var interceptor = new RandomRequestLimitInterceptor(true, 2, Duration.ofMinutes(5), false, 1);
+        assertThat(status(interceptor, "a")).isEqualTo(HttpStatus.OK.value());
+        assertThat(status(interceptor, "b")).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(status(interceptor, "c")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(status(interceptor, "a")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    private static int status(RandomRequestLimitInterceptor interceptor, String clientId) {
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(request(clientId), response, null);
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(RandomRequestLimitInterceptor.CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary copy of an employee list, written by the mock server for its dataset and by the API for its
+ * cache, so that either can load the other's file.
+ * <p>
+ * Layout, big-endian: magic {@code EMPS}, format version (int), saved-at epoch millis (long), employee count
+ * (int), then per employee id, name, salary, age, title and email. Strings are a byte length (-1 for
+ * {@code null}) followed by UTF-8 bytes, integers a presence byte (0 for {@code null}) followed by the int.
+ * <p>
+ * Files are read through a read-only memory mapping and written to a temporary sibling that replaces the
+ * target atomically, so a crash while saving never leaves a truncated snapshot behind.
+ */
+public final class EmployeeSnapshotFormat {
+
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int VERSION = 1;
+    // magic, version, saved at, count
+    private static final int HEADER_BYTES = 20;
+    // an employee with every field null: four string lengths and two presence bytes with their ints
+    private static final int MIN_EMPLOYEE_BYTES = 26;
+
+    private EmployeeSnapshotFormat() {}
+
+    /**
+     * One employee as stored; the id is kept as text whatever its type in memory.
+     */
+    public record Entry(String id, String name, Integer salary, Integer age, String title, String email) {}
+
+    /**
+     * @param savedAt   the instant the employees were saved (or loaded from their source)
+     * @param employees the employees, in the order they were written
+     */
+    public record Contents(Instant savedAt, List<Entry> employees) {}
+
+    /**
+     * @throws IllegalStateException    if {@code path} is not a snapshot file of a supported version, or is
+     *                                  truncated
+     * @throws BufferUnderflowException if an employee record ends past the end of the file
+     * @throws UncheckedIOException     if {@code path} cannot be read
+     */
+    public static Contents read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Not an employee snapshot: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported employee snapshot version " + version + ": " + path);
+            }
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_EMPLOYEE_BYTES) {
+                throw new IllegalStateException("Truncated employee snapshot, " + count + " employees: " + path);
+            }
+            List<Entry> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(new Entry(
+                        readString(buffer),
+                        readString(buffer),
+                        readInt(buffer),
+                        readInt(buffer),
+                        readString(buffer),
+                        readString(buffer)));
+            }
+            return new Contents(savedAt, employees);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read employee snapshot " + path, e);
+        }
+    }
+
+    /**
+     * @throws UncheckedIOException if {@code path} cannot be written
+     */
+    public static void write(Path path, Instant savedAt, Collection<Entry> employees) {
+        Path absolute = path.toAbsolutePath();
+        try {
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName() + ".", ".tmp");
+            try {
+                try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeLong(savedAt.toEpochMilli());
+                    out.writeInt(employees.size());
+                    for (Entry employee : employees) {
+                        writeString(out, employee.id());
+                        writeString(out, employee.name());
+                        writeInt(out, employee.salary());
+                        writeInt(out, employee.age());
+                        writeString(out, employee.title());
+                        writeString(out, employee.email());
+                    }
+                }
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write employee snapshot " + path, e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalStateException("Truncated employee snapshot, string of " + length + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInt(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeByte(value == null ? 0 : 1);
+        out.writeInt(value == null ? 0 : value);
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeSnapshotFormatTest {
+
+    private static final Instant SAVED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    // one employee in format version 1, as read and written by the mock server and the API
+    private static final byte[] VERSION_1 = HexFormat.of()
+            .parseHex("454d5053" // magic "EMPS"
+                    + "00000001" // version
+                    + "0000018cc251f400" // saved at 2024-01-01T00:00:00Z
+                    + "00000001" // employee count
+                    + "00000024" + text("00000000-0000-0000-0000-000000000001") // id
+                    + "0000000b" + text("Tiger Nixon") // name
+                    + "01" + "0004e520" // salary 320800
+                    + "01" + "0000003d" // age 61
+                    + "ffffffff" // title null
+                    + "00000003" + text("t@x")); // email
+
+    private static final EmployeeSnapshotFormat.Entry TIGER = new EmployeeSnapshotFormat.Entry(
+            "00000000-0000-0000-0000-000000000001", "Tiger Nixon", 320800, 61, null, "t@x");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_decodesVersion1() throws Exception {
+        final var file = Files.write(dir.resolve("employees.bin"), VERSION_1);
+
+        assertThat(EmployeeSnapshotFormat.read(file))
+                .isEqualTo(new EmployeeSnapshotFormat.Contents(SAVED_AT, List.of(TIGER)));
+    }
+
+    @Test
+    void write_encodesVersion1() throws Exception {
+        final var file = dir.resolve("employees.bin");
+
+        EmployeeSnapshotFormat.write(file, SAVED_AT, List.of(TIGER));
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(VERSION_1);
+    }
+
+    @Test
+    void writeThenRead_roundTripsNullsAndNonAsciiText() {
+        final var employees = List.of(
+                TIGER,
+                new EmployeeSnapshotFormat.Entry(null, "Zoë Ångström", null, 30, null, "zoe@company.com"));
+        final var file = dir.resolve("snapshots/employees.bin");
+
+        EmployeeSnapshotFormat.write(file, SAVED_AT, employees);
+
+        assertThat(EmployeeSnapshotFormat.read(file).employees()).isEqualTo(employees);
+    }
+
+    @Test
+    void read_rejectsTruncatedFiles() throws Exception {
+        final var headerOnly = Files.write(dir.resolve("header.bin"), Arrays.copyOf(VERSION_1, 20));
+        final var cutShort = Files.write(dir.resolve("cut.bin"), Arrays.copyOf(VERSION_1, VERSION_1.length - 2));
+
+        assertThatThrownBy(() -> EmployeeSnapshotFormat.read(headerOnly))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Truncated");
+        assertThatThrownBy(() -> EmployeeSnapshotFormat.read(cutShort)).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void read_rejectsLengthsPastTheEndOfTheFile() throws Exception {
+        final var corrupt = VERSION_1.clone();
+        ByteBuffer.wrap(corrupt).putInt(60, Integer.MAX_VALUE); // length of the name
+        final var file = Files.write(dir.resolve("employees.bin"), corrupt);
+
+        assertThatThrownBy(() -> EmployeeSnapshotFormat.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    @Test
+    void read_rejectsOtherFiles() throws Exception {
+        final var file = Files.writeString(dir.resolve("employees.json"), "{\"data\": []}");
+
+        assertThatThrownBy(() -> EmployeeSnapshotFormat.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not an employee snapshot");
+    }
+
+    private static String text(String value) {
+        return HexFormat.of().formatHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+}